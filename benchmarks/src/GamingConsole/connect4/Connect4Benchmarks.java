@@ -0,0 +1,124 @@
+package GamingConsole.connect4;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the Connect 4 board and view, on the empty board and in a middle game.
+ * <p>
+ * Benchmarks:
+ * - drop: dropping a piece into the next playable column and taking it back.
+ * - dropAndCheckWin: the same with the win check the controller runs after every move.
+ * - winningMoves: asking of every column whether a piece dropped there would win, as the search
+ *   does before expanding a position.
+ * - paint: painting the whole view into an off-screen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class Connect4Benchmarks {
+  /** The moves of a middle game in which the side to move never had a winning drop. */
+  static final int[] MIDGAME = {3, 1, 3, 3, 1, 0, 5, 6, 6, 1, 3, 1, 0, 4};
+
+  @Param({"empty", "midgame"})
+  public String position;
+
+  private Connect4Board board;
+  private int col;
+  private Connect4View view;
+  private Graphics2D g;
+
+  @Setup
+  public void setUp() {
+    Connect4Model model = new Connect4Model(7, 6, 90);
+    board = model.board;
+    if (position.equals("midgame")) {
+      play(board, MIDGAME);
+    }
+    model.publish();
+
+    view = new Connect4View(model);
+    view.setSize(view.getPreferredSize());
+    BufferedImage image =
+            new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+    g = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  /**
+   * Plays a sequence of moves.
+   *
+   * @param board the board to play on
+   * @param moves the columns to drop into, in order
+   * @throws IllegalStateException if a move cannot be played or ends the game
+   */
+  static void play(Connect4Board board, int[] moves) {
+    for (int move : moves) {
+      if (!board.canPlay(move)) {
+        throw new IllegalStateException("Column " + move + " is full");
+      }
+      board.play(move);
+      if (board.lastMoveWon()) {
+        throw new IllegalStateException("Column " + move + " ends the game");
+      }
+    }
+  }
+
+  private int nextColumn() {
+    do {
+      col = col + 1 == board.cols() ? 0 : col + 1;
+    } while (!board.canPlay(col));
+    return col;
+  }
+
+  @Benchmark
+  public int drop() {
+    board.play(nextColumn());
+    return board.undo();
+  }
+
+  @Benchmark
+  public boolean dropAndCheckWin() {
+    board.play(nextColumn());
+    boolean won = board.lastMoveWon();
+    board.undo();
+    return won;
+  }
+
+  @Benchmark
+  public int winningMoves() {
+    int wins = 0;
+    for (int c = 0; c < board.cols(); c++) {
+      if (board.canPlay(c) && board.isWinningMove(c)) {
+        wins++;
+      }
+    }
+    return wins;
+  }
+
+  @Benchmark
+  public void paint() {
+    view.paint(g);
+  }
+}
@@ -0,0 +1,93 @@
+package GamingConsole.connect4;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the Connect 4 search on one or more threads.
+ * <p>
+ * Benchmarks:
+ * - bestMove: a search with a budget of {@value #NODES} nodes. Besides the searches per second,
+ *   JMH reports the rate of the {@code nodes} counter, the positions visited per second across
+ *   all search threads.
+ * - toDepth: the time to search to a depth of {@value #DEPTH} plies, which shows how much the
+ *   helper threads shorten a search rather than just how many more nodes they visit.
+ * <p>
+ * Every invocation starts from an empty transposition table, so every invocation does the same
+ * work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Connect4SearchBenchmarks {
+  private static final long NODES = 200_000;
+  private static final int DEPTH = 12;
+
+  @Param({"empty", "midgame"})
+  public String position;
+
+  @Param({"1", "2", "4"})
+  public int threads;
+
+  private Connect4Board board;
+  private Connect4Search search;
+
+  /**
+   * The number of positions visited, reported by JMH as a rate next to the primary result.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Nodes {
+    public long nodes;
+  }
+
+  @Setup
+  public void setUp() {
+    board = new Connect4Board(7, 6);
+    if (position.equals("midgame")) {
+      Connect4Benchmarks.play(board, Connect4Benchmarks.MIDGAME);
+    }
+    search = new Connect4Search(20, threads);
+  }
+
+  @TearDown
+  public void tearDown() {
+    search.close();
+  }
+
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    search.clear();
+  }
+
+  @Benchmark
+  public int bestMove(Nodes counter) {
+    int move = search.bestMove(board, NODES, 0);
+    counter.nodes += search.nodes();
+    return move;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int toDepth() {
+    return search.bestMove(board, 0, 0, DEPTH);
+  }
+}
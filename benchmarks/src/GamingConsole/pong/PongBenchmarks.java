@@ -0,0 +1,74 @@
+package GamingConsole.pong;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the Pong physics and view, for a normal game and the multi-ball stress mode.
+ * <p>
+ * Benchmarks:
+ * - step: one fixed simulation step, including the swept wall and paddle collisions, the
+ *   computer players and, with more than one ball, the grid broad phase of the ball-ball
+ *   collisions. The step time should grow about linearly with the number of balls.
+ * - paint: painting the whole view into an off-screen image from a published snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PongBenchmarks {
+  @Param({"1", "250", "1000", "4000"})
+  public int balls;
+
+  private PongModel model;
+  private PongView view;
+  private Graphics2D g;
+
+  @Setup
+  public void setUp() {
+    model = new PongModel(800, 520, 42);
+    model.aiL = new PongAI(PongAI.Difficulty.HARD);
+    model.setBalls(balls);
+    for (int i = 0; i < 1000; i++) {
+      model.step(); // let the served balls spread out
+    }
+    model.publish();
+
+    view = new PongView(model);
+    view.setSize(view.getPreferredSize());
+    BufferedImage image =
+            new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+    g = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  @Benchmark
+  public void step() {
+    model.step();
+  }
+
+  @Benchmark
+  public void paint() {
+    view.paint(g);
+  }
+}
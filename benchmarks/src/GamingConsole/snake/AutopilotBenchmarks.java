@@ -0,0 +1,50 @@
+package GamingConsole.snake;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the Snake autopilots on a 100x100 board.
+ * <p>
+ * Each invocation lets a policy plan a step and plays it, starting a new game whenever one ends,
+ * so the result is the time a policy takes per step over the whole course of its games. A* plans
+ * a path to the food, the Hamiltonian cycle only looks up the next cell on the cycle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutopilotBenchmarks {
+  @Param({"astar", "hamiltonian"})
+  public String policy;
+
+  private SnakePolicy pilot;
+  private SnakeEngine engine;
+
+  @Setup
+  public void setUp() {
+    pilot = policy.equals("astar") ? new AStarPolicy() : new HamiltonianPolicy();
+    engine = new SnakeEngine(100, 100, 42);
+  }
+
+  @Benchmark
+  public boolean planAndStep() {
+    if (!engine.alive() || engine.won()) {
+      engine.reset();
+    }
+    return engine.step(pilot.choose(engine));
+  }
+}
@@ -0,0 +1,96 @@
+package GamingConsole.snake;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the Snake engine and view, for snakes of several lengths on a 64x64 board.
+ * <p>
+ * Benchmarks:
+ * - tick: one step of the engine, steered along a Hamiltonian cycle so the snake never dies.
+ *   The snake grows as it eats; once it is {@link #SLACK} segments longer than the length under
+ *   test, the game is restored from a copy taken at that length. Restoring copies three
+ *   board-sized arrays and happens about once every hundred thousand steps.
+ * - spawnFood: picking a random free cell for the food.
+ * - paint: painting the whole view into an off-screen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SnakeBenchmarks {
+  private static final int COLS = 64;
+  private static final int ROWS = 64;
+  private static final int CELL = 10;
+  private static final int SLACK = 64;
+
+  @Param({"5", "100", "1000", "3000"})
+  public int length;
+
+  private final SnakePolicy policy = new HamiltonianPolicy();
+  private SnakeEngine start;
+  private SnakeEngine engine;
+  private SnakeEngine spawner;
+  private SnakeView view;
+  private Graphics2D g;
+
+  @Setup
+  public void setUp() {
+    SnakeModel model = new SnakeModel(COLS, ROWS, CELL);
+    start = model.engine;
+    while (start.length() < length) {
+      start.step(policy.choose(start));
+    }
+    model.publish();
+    engine = new SnakeEngine(COLS, ROWS, 1);
+    engine.copyFrom(start);
+    spawner = new SnakeEngine(COLS, ROWS, 2);
+    spawner.copyFrom(start);
+
+    view = new SnakeView(model);
+    view.setSize(view.getPreferredSize());
+    BufferedImage image =
+            new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+    g = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  @Benchmark
+  public boolean tick() {
+    if (engine.length() > length + SLACK || !engine.alive() || engine.won()) {
+      engine.copyFrom(start);
+    }
+    return engine.step(policy.choose(engine));
+  }
+
+  @Benchmark
+  public int spawnFood() {
+    spawner.spawnFood();
+    return spawner.food();
+  }
+
+  @Benchmark
+  public void paint() {
+    view.paint(g);
+  }
+}
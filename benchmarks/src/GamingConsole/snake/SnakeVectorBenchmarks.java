@@ -0,0 +1,77 @@
+package GamingConsole.snake;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the batched Snake environment: 4096 games on 20x20 boards stepped together
+ * with pseudo-random actions, on one or more threads.
+ * <p>
+ * Benchmarks:
+ * - step: one step of every game.
+ * - stepAndObserve: the same followed by copying every observation into a direct byte buffer,
+ *   the way a training loop would.
+ * <p>
+ * The results are per batch step; dividing by the number of games gives the time per game step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeVectorBenchmarks {
+  @Param({"4096"})
+  public int envs;
+
+  @Param({"1", "2", "4"})
+  public int threads;
+
+  private SnakeVectorEnv env;
+  private int[][] actions;
+  private float[] rewards;
+  private boolean[] dones;
+  private ByteBuffer observations;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    env = new SnakeVectorEnv(envs, 20, 20, 42, threads);
+    // a handful of pre-drawn action batches, so the benchmark does not time its own random numbers
+    actions = new int[16][envs];
+    long seed = 1;
+    for (int[] batch : actions) {
+      for (int e = 0; e < envs; e++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        batch[e] = (int) (seed >>> 60);
+      }
+    }
+    rewards = new float[envs];
+    dones = new boolean[envs];
+    observations = ByteBuffer.allocateDirect(env.observationSize());
+  }
+
+  @Benchmark
+  public void step() {
+    env.step(actions[next++ & 15], rewards, dones);
+  }
+
+  @Benchmark
+  public void stepAndObserve() {
+    env.step(actions[next++ & 15], rewards, dones);
+    observations.clear();
+    env.observe(observations);
+  }
+}
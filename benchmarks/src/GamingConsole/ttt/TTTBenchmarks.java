@@ -0,0 +1,93 @@
+package GamingConsole.ttt;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the Tic-Tac-Toe board and view, from the classic 3x3 board to Gomoku on
+ * 15x15, each about half filled with random moves.
+ * <p>
+ * Benchmarks:
+ * - placeAndCheckWin: marking each empty cell in turn, checking for a win and taking the mark
+ *   back, as the controller and the solver do for every move.
+ * - paint: painting the whole view into an off-screen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TTTBenchmarks {
+  @Param({"3", "7", "15"})
+  public int size;
+
+  private MNKBoard board;
+  private int[] empty;
+  private int next;
+  private TTTView view;
+  private Graphics2D g;
+
+  @Setup
+  public void setUp() {
+    TTTModel model = new TTTModel(size, 600 / size);
+    board = model.board;
+    Random random = new Random(42);
+    int cells = size * size;
+    for (int i = 0; i < cells / 2; i++) {
+      int index = random.nextInt(cells);
+      if (board.place(index / size, index % size) && board.lastMoveWon()) {
+        board.undo(); // keep the game open
+      }
+    }
+    empty = new int[cells - board.moveCount()];
+    int n = 0;
+    for (int index = 0; index < cells; index++) {
+      if (board.get(index / size, index % size) == 0) {
+        empty[n++] = index;
+      }
+    }
+    model.publish();
+
+    view = new TTTView(model);
+    view.setSize(view.getPreferredSize());
+    BufferedImage image =
+            new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+    g = image.createGraphics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    g.dispose();
+  }
+
+  @Benchmark
+  public boolean placeAndCheckWin() {
+    int index = empty[next];
+    next = next + 1 == empty.length ? 0 : next + 1;
+    board.place(index / size, index % size);
+    boolean won = board.lastMoveWon();
+    board.undo();
+    return won;
+  }
+
+  @Benchmark
+  public void paint() {
+    view.paint(g);
+  }
+}
@@ -0,0 +1,339 @@
+package GamingConsole.connect4;
+
+/**
+ * Bitboard engine for Connect 4.
+ * <p>
+ * The board is stored as one {@code long} mask per player. Each column occupies
+ * {@code rows + 1} consecutive bits, bottom cell first, with the extra bit acting as a sentinel
+ * so that shifts never carry a line from one column into the next. Per-column heights give the
+ * next free bit of every column, and a move stack makes undo possible.
+ * <p>
+ * Features:
+ * - O(1) drop and undo.
+ * - Four-in-a-row detection with four shift-and-AND tests, no loops or allocation.
+ * - Full-board detection from the move count.
+ * - A compact position key for transposition tables.
+ */
+public class Connect4Board {
+  private final int cols;
+  private final int rows;
+  private final int stride;
+  private final long bottom;
+  private final long full;
+  private final long[] bits = new long[2];
+  private final int[] height;
+  private final int[] moves;
+  private int count = 0;
+
+  /**
+   * Constructs an empty Connect4Board.
+   *
+   * @param cols the number of columns on the board
+   * @param rows the number of rows on the board
+   * @throws IllegalArgumentException if the board does not fit in a 64-bit mask
+   */
+  public Connect4Board(int cols, int rows) {
+    if (cols < 1 || rows < 1 || cols * (rows + 1) > 64) {
+      throw new IllegalArgumentException("Board too large for a bitboard: " + cols + "x" + rows);
+    }
+    this.cols = cols;
+    this.rows = rows;
+    this.stride = rows + 1;
+    this.height = new int[cols];
+    this.moves = new int[cols * rows];
+    long b = 0;
+    for (int c = 0; c < cols; c++) {
+      b |= 1L << (c * stride);
+    }
+    this.bottom = b;
+    this.full = b * ((1L << rows) - 1);
+    reset();
+  }
+
+  /**
+   * Constructs a copy of another board, including its move history.
+   *
+   * @param other the board to copy
+   */
+  public Connect4Board(Connect4Board other) {
+    this.cols = other.cols;
+    this.rows = other.rows;
+    this.stride = other.stride;
+    this.bottom = other.bottom;
+    this.full = other.full;
+    this.bits[0] = other.bits[0];
+    this.bits[1] = other.bits[1];
+    this.height = other.height.clone();
+    this.moves = other.moves.clone();
+    this.count = other.count;
+  }
+
+  /**
+   * Empties the board and gives the move to player 1.
+   */
+  public void reset() {
+    bits[0] = 0;
+    bits[1] = 0;
+    for (int c = 0; c < cols; c++) {
+      height[c] = c * stride;
+    }
+    count = 0;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of pieces on the board.
+   *
+   * @return the number of moves played so far
+   */
+  public int moveCount() {
+    return count;
+  }
+
+  /**
+   * Returns the player whose turn it is.
+   *
+   * @return 1 or 2
+   */
+  public int current() {
+    return (count & 1) + 1;
+  }
+
+  /**
+   * Checks whether a piece can be dropped into the given column.
+   *
+   * @param col the column index, starting from 0
+   * @return true if the column exists and is not full
+   */
+  public boolean canPlay(int col) {
+    return col >= 0 && col < cols && height[col] < col * stride + rows;
+  }
+
+  /**
+   * Drops the current player's piece into the given column.
+   *
+   * @param col the column index, starting from 0
+   * @return the row index (0 is the top row) where the piece landed, or -1 if the column is
+   *         invalid or full
+   */
+  public int play(int col) {
+    if (!canPlay(col)) {
+      return -1;
+    }
+    int bit = height[col]++;
+    bits[count & 1] |= 1L << bit;
+    moves[count++] = col;
+    return rows - 1 - (bit - col * stride);
+  }
+
+  /**
+   * Takes back the most recent move.
+   *
+   * @return the column of the removed piece, or -1 if the board is empty
+   */
+  public int undo() {
+    if (count == 0) {
+      return -1;
+    }
+    int col = moves[--count];
+    int bit = --height[col];
+    bits[count & 1] &= ~(1L << bit);
+    return col;
+  }
+
+  /**
+   * Checks whether the player who made the last move has four in a row.
+   *
+   * @return true if the last move won the game
+   */
+  public boolean lastMoveWon() {
+    return count > 0 && hasFour(bits[(count - 1) & 1]);
+  }
+
+  /**
+   * Checks whether every cell of the board is occupied.
+   *
+   * @return true if no more moves can be played
+   */
+  public boolean isFull() {
+    return count == cols * rows;
+  }
+
+  /**
+   * Returns the occupant of a cell.
+   *
+   * @param row the row index, 0 being the top row
+   * @param col the column index, starting from 0
+   * @return 0 for empty, 1 for player 1 or 2 for player 2
+   */
+  public int cell(int row, int col) {
+    long bit = 1L << (col * stride + rows - 1 - row);
+    if ((bits[0] & bit) != 0) {
+      return 1;
+    }
+    return (bits[1] & bit) != 0 ? 2 : 0;
+  }
+
+  /**
+   * Returns a key that uniquely identifies the position, including whose turn it is.
+   * It is the current player's pieces plus the occupancy mask plus the bottom row, which sets
+   * exactly one marker bit above the top piece of every column.
+   *
+   * @return the position key
+   */
+  public long key() {
+    return bits[count & 1] + (bits[0] | bits[1]) + bottom;
+  }
+
+  /**
+   * Checks whether the current player would complete four in a row by dropping into a column.
+   * The column must be playable.
+   *
+   * @param col the column index, starting from 0
+   * @return true if playing the column wins immediately
+   */
+  public boolean isWinningMove(int col) {
+    return hasFour(bits[count & 1] | (1L << height[col]));
+  }
+
+  /**
+   * Checks whether the current player can win with their next piece.
+   *
+   * @return true if some playable column wins immediately
+   */
+  public boolean canWinNext() {
+    return (threats(currentBits()) & possible()) != 0;
+  }
+
+  /**
+   * Returns a key that is the same for a position and its left-right mirror image, so that
+   * symmetric positions can share one stored result.
+   *
+   * @return the smaller of the position key and the key of the mirrored position
+   */
+  public long canonicalKey() {
+    long key = key();
+    long mirrored = 0;
+    long column = (1L << stride) - 1;
+    for (int c = 0; c < cols; c++) {
+      mirrored |= ((key >>> (c * stride)) & column) << ((cols - 1 - c) * stride);
+    }
+    return Math.min(key, mirrored);
+  }
+
+  /**
+   * Returns the cells where a piece can be dropped right now, one per non-full column.
+   *
+   * @return the bitboard of playable cells
+   */
+  long possible() {
+    return (mask() + bottom) & full;
+  }
+
+  /**
+   * Returns the playable cells that do not let the opponent win with their next piece.
+   * If the opponent threatens two playable cells at once, no move avoids defeat and the result
+   * is empty.
+   *
+   * @return the bitboard of non-losing playable cells
+   */
+  long nonLosingMoves() {
+    long possible = possible();
+    long opponentWins = threats(opponentBits());
+    long forced = possible & opponentWins;
+    if (forced != 0) {
+      if ((forced & (forced - 1)) != 0) {
+        return 0;
+      }
+      possible = forced;
+    }
+    return possible & ~(opponentWins >>> 1);
+  }
+
+  /**
+   * Returns all cells of a column.
+   *
+   * @param col the column index, starting from 0
+   * @return the bitboard of the column's cells
+   */
+  long columnMask(int col) {
+    return ((1L << rows) - 1) << (col * stride);
+  }
+
+  /**
+   * Counts the threats the current player would have after taking a cell, for move ordering.
+   *
+   * @param move a bitboard with the single playable cell to take
+   * @return the number of empty cells that would complete four for the current player
+   */
+  int moveScore(long move) {
+    return Long.bitCount(threats(currentBits() | move) & ~move);
+  }
+
+  long currentBits() {
+    return bits[count & 1];
+  }
+
+  long opponentBits() {
+    return bits[(count & 1) ^ 1];
+  }
+
+  long mask() {
+    return bits[0] | bits[1];
+  }
+
+  /**
+   * Computes the empty cells that would complete four in a row for a set of cells, whether or not
+   * they can be played right now.
+   *
+   * @param pos a bitboard in this board's layout
+   * @return the bitboard of empty cells completing a line of four
+   */
+  long threats(long pos) {
+    long r = (pos << 1) & (pos << 2) & (pos << 3);
+    r |= threats(pos, stride);
+    r |= threats(pos, stride - 1);
+    r |= threats(pos, stride + 1);
+    return r & (full ^ mask());
+  }
+
+  private static long threats(long pos, int d) {
+    long p = (pos << d) & (pos << 2 * d);
+    long r = p & (pos << 3 * d);
+    r |= p & (pos >>> d);
+    p = (pos >>> d) & (pos >>> 2 * d);
+    r |= p & (pos << d);
+    r |= p & (pos >>> 3 * d);
+    return r;
+  }
+
+  /**
+   * Checks whether a set of cells contains four in a row horizontally, vertically or diagonally.
+   *
+   * @param pos a bitboard in this board's layout
+   * @return true if the set contains a line of four
+   */
+  boolean hasFour(long pos) {
+    long m = pos & (pos >>> stride);
+    if ((m & (m >>> 2 * stride)) != 0) {
+      return true;
+    }
+    m = pos & (pos >>> (stride - 1));
+    if ((m & (m >>> 2 * (stride - 1))) != 0) {
+      return true;
+    }
+    m = pos & (pos >>> (stride + 1));
+    if ((m & (m >>> 2 * (stride + 1))) != 0) {
+      return true;
+    }
+    m = pos & (pos >>> 1);
+    return (m & (m >>> 2)) != 0;
+  }
+}
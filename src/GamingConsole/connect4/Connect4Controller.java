@@ -4,10 +4,15 @@ import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.util.Arrays;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.*;
 
+import GamingConsole.core.GameController;
+import GamingConsole.core.GameMetrics;
+
 /**
  * Controls the Connect 4 game by handling user interactions and game logic.
  * <p>
@@ -16,14 +21,26 @@ import javax.swing.*;
  * - Validates and processes player moves.
  * - Updates the game model (board state and current player).
  * - Checks for win conditions and handles game-over scenarios.
- * - Notifies the view to repaint based on changes in the model.
+ * - Runs the computer opponent's opening book lookup and search on a background thread and
+ * applies its move on the Event Dispatch Thread.
+ * - Has the model publish a snapshot after every change and notifies the view to repaint.
+ * - Records the time taken to apply each move and a player's time to see it into the view's
+ * {@link GameMetrics}.
  * - Maps specific key bindings for actions such as resetting the game or
  * returning to the menu.
  */
-public class Connect4Controller implements MouseListener {
+public class Connect4Controller implements MouseListener, GameController {
   private final Connect4Model model;
   private final Connect4View view;
   private final Runnable onBack;
+  private final GameMetrics metrics;
+  private final Connect4Search search =
+          new Connect4Search(20, Runtime.getRuntime().availableProcessors());
+  private final OpeningBook book =
+          new OpeningBook(Paths.get(System.getProperty("connect4.book", "connect4-book.bin")));
+  private SwingWorker<Integer, Void> worker;
+  private AtomicBoolean workerCancel;
+  private int generation = 0;
 
   /**
    * Constructs a Connect4Controller instance to manage the Connect 4 game logic,
@@ -37,6 +54,7 @@ public class Connect4Controller implements MouseListener {
     this.model = model;
     this.view = view;
     this.onBack = onBack;
+    this.metrics = view.metrics;
     view.addMouseListener(this);
     installKeyBindings();
     reset();
@@ -46,12 +64,36 @@ public class Connect4Controller implements MouseListener {
    * Resets the Connect 4 game state to its initial conditions.
    */
   public void reset() {
-    for (int r = 0; r < model.rows; r++) Arrays.fill(model.board[r], 0);
-    model.current = 1;
+    cancelAI();
+    model.board.reset();
     model.gameOver = false;
+    model.publish();
     view.repaint();
   }
 
+  @Override
+  public void activate() {
+    reset();
+  }
+
+  @Override
+  public void suspend() {
+    cancelAI();
+  }
+
+  @Override
+  public void resume() {
+    model.publish();
+    view.repaint();
+    startAIIfDue();
+  }
+
+  @Override
+  public void dispose() {
+    cancelAI();
+    search.close();
+  }
+
   /**
    * Configures key bindings for the Connect4View to handle specific user keyboard actions.
    */
@@ -64,6 +106,30 @@ public class Connect4Controller implements MouseListener {
         reset();
       }
     });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_A, 0), "ai");
+    am.put("ai", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        model.vsAI = !model.vsAI;
+        if (model.vsAI) {
+          startAIIfDue();
+        }
+        else {
+          cancelAI();
+        }
+        view.markStatus();
+        model.publish();
+        view.repaintMarked();
+      }
+    });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_D, 0), "difficulty");
+    am.put("difficulty", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        model.difficulty = model.difficulty.next();
+        view.markStatus();
+        model.publish();
+        view.repaintMarked();
+      }
+    });
     im.put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "menu");
     am.put("menu", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
@@ -73,99 +139,119 @@ public class Connect4Controller implements MouseListener {
   }
 
   /**
-   * Drops a game piece into the specified column of the Connect 4 board. This method finds the
-   * lowest unoccupied row in the given column and places the current player's piece there.
-   * If the column is invalid or full, it returns -1.
+   * Drops the current player's piece into a column, ends the game on a win or a full board and
+   * hands the turn to the computer opponent if it is due to move.
    *
    * @param col the column index where the game piece should be dropped, starting from 0
-   * @return the row index where the piece was placed, or -1 if the column is invalid or full
    */
-  private int dropIn(int col) {
-    if (col < 0 || col >= model.cols) return -1;
-    for (int r = model.rows - 1; r >= 0; r--) {
-      if (model.board[r][col] == 0) {
-        model.board[r][col] = model.current;
-        return r;
+  private void drop(int col) {
+    long start = System.nanoTime();
+    int row = model.board.play(col);
+    if (row != -1) {
+      if (model.board.lastMoveWon() || model.board.isFull()) {
+        model.gameOver = true;
       }
+      view.markCell(row, col);
+      view.markStatus();
+      model.publish();
+      metrics.published();
+      metrics.ticked(start);
+      view.repaintMarked();
+      startAIIfDue();
     }
-    return -1;
   }
 
   /**
-   * Checks if the current move at the specified row and column results in a win
-   * for the player making the move. A winning condition is satisfied if there are four or more
-   * consecutive game pieces (horizontally, vertically, or diagonally) for the player in question.
-   *
-   * @param r the row index of the recently placed game piece
-   * @param c the column index of the recently placed game piece
-   * @return true if the move results in a winning condition, false otherwise
+   * Starts a background search for the computer opponent's move if it is enabled, the game is
+   * running and it is the opponent's turn. Positions covered by the opening book are looked up
+   * instead of searched. The search works on a copy of the board and its result is applied on
+   * the Event Dispatch Thread, unless the game was reset or suspended in the meantime. If the
+   * lookup or search fails, the failure is reported to the thread's uncaught exception handler
+   * and the first playable column from the center outwards is played instead, so the game goes
+   * on.
    */
-  private boolean checkWin(int r, int c) {
-    int p = model.board[r][c];
-    if (p == 0) return false;
-    int[][] dir = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
-    for (int[] d : dir) {
-      int cnt = 1;
-      cnt += count(r, c, d[0], d[1], p);
-      cnt += count(r, c, -d[0], -d[1], p);
-      if (cnt >= 4) return true;
+  private void startAIIfDue() {
+    if (!model.vsAI || model.gameOver || worker != null
+            || model.board.current() != Connect4Model.AI_PLAYER) {
+      return;
     }
-    return false;
+    Connect4Board position = new Connect4Board(model.board);
+    Connect4Model.Difficulty level = model.difficulty;
+    int started = generation;
+    AtomicBoolean cancel = new AtomicBoolean();
+    workerCancel = cancel;
+    model.thinking = true;
+    worker = new SwingWorker<Integer, Void>() {
+      @Override
+      protected Integer doInBackground() {
+        int move = level.useBook ? book.bestMove(position) : -1;
+        return move >= 0 ? move
+                : search.bestMove(position, level.maxNodes, level.maxMillis, cancel);
+      }
+
+      @Override
+      protected void done() {
+        if (started != generation || isCancelled()) {
+          return;
+        }
+        worker = null;
+        model.thinking = false;
+        try {
+          drop(get());
+        }
+        catch (InterruptedException | ExecutionException ex) {
+          Thread thread = Thread.currentThread();
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+          drop(fallbackMove());
+        }
+      }
+    };
+    worker.execute();
+    view.markStatus();
+    model.publish();
+    view.repaintMarked();
   }
 
   /**
-   * Counts the consecutive occurrences of a specified player's game piece
-   * in a given direction from a starting position on the game board.
-   *
-   * @param r  the starting row index
-   * @param c  the starting column index
-   * @param dr the row increment for the direction of traversal
-   * @param dc the column increment for the direction of traversal
-   * @param p  the player's game piece to count (1 for player 1, 2 for player 2)
-   * @return the number of consecutive game pieces for the specified player in the given direction
+   * Stops any running search for the computer opponent and discards its result.
    */
-  private int count(int r, int c, int dr, int dc, int p) {
-    int n = 0;
-    r += dr;
-    c += dc;
-    while (r >= 0 && r < model.rows && c >= 0 && c < model.cols && model.board[r][c] == p) {
-      n++;
-      r += dr;
-      c += dc;
+  private void cancelAI() {
+    generation++;
+    if (worker != null) {
+      workerCancel.set(true);
+      worker.cancel(false);
+      worker = null;
     }
-    return n;
+    model.thinking = false;
   }
 
   /**
-   * Checks if the top row of the game board is completely filled (no empty cells).
+   * Returns the move played when the computer opponent fails to come up with one.
    *
-   * @return true if the top row of the game board is completely filled, false otherwise
+   * @return the first playable column from the center outwards
    */
-  private boolean fullTop() {
-    for (int c = 0; c < model.cols; c++) {
-      if (model.board[0][c] == 0) {
-        return false;
+  private int fallbackMove() {
+    for (int col : Connect4Search.centerFirst(model.cols)) {
+      if (model.board.canPlay(col)) {
+        return col;
       }
     }
-    return true;
+    return -1;
   }
 
   @Override
   public void mouseClicked(MouseEvent e) {
-    if (model.gameOver) {
+    if (model.gameOver || model.thinking) {
+      return;
+    }
+    if (model.vsAI && model.board.current() == Connect4Model.AI_PLAYER) {
       return;
     }
     int col = (e.getX() - 20) / model.cell;
-    int row = dropIn(col);
-    if (row != -1) {
-      if (checkWin(row, col) || fullTop()) {
-        model.gameOver = true;
-      }
-      else {
-        model.current = 3 - model.current;
-      }
-      view.repaint();
+    if (model.board.canPlay(col)) {
+      metrics.input();
     }
+    drop(col);
   }
 
   @Override
@@ -1,22 +1,61 @@
 package GamingConsole.connect4;
 
+import GamingConsole.core.SnapshotBuffer;
+
 /**
  * Represents the model for the Connect 4 game, encapsulating the game state
  * and logic.
  * <p>
  * Features:
  * - Defines the dimensions of the game board in terms of rows and columns.
- * - Stores the state of every cell on the board with a 2D integer array.
- * - Tracks the current active player (player 1 or player 2).
+ * - Stores the state of every cell on the board in a bitboard engine, which also tracks the
+ *   current active player (player 1 or player 2).
  * - Indicates if the game has ended.
+ * - Holds the computer opponent's settings and whether it is currently thinking.
+ * - Publishes a {@link Connect4Snapshot} after every change, which the view draws without
+ *   touching the model.
  */
 public class Connect4Model {
+  /**
+   * Strength of the computer opponent, expressed as a search budget and whether it may play
+   * solved moves from the opening book.
+   */
+  enum Difficulty {
+    EASY("Easy", 2_000, 0, false),
+    MEDIUM("Medium", 200_000, 0, true),
+    HARD("Hard", 0, 1_500, true);
+
+    final String label;
+    final long maxNodes;
+    final long maxMillis;
+    final boolean useBook;
+
+    Difficulty(String label, long maxNodes, long maxMillis, boolean useBook) {
+      this.label = label;
+      this.maxNodes = maxNodes;
+      this.maxMillis = maxMillis;
+      this.useBook = useBook;
+    }
+
+    Difficulty next() {
+      return values()[(ordinal() + 1) % values().length];
+    }
+  }
+
+  /** The player controlled by the computer opponent (yellow). */
+  static final int AI_PLAYER = 2;
+
   final int cols;
   final int rows;
   final int cell;
-  final int[][] board;
-  int current = 1;
+  final Connect4Board board;
   boolean gameOver = false;
+  /** Whether yellow is played by the computer; off by default, so two people play. */
+  boolean vsAI = false;
+  Difficulty difficulty = Difficulty.MEDIUM;
+  boolean thinking = false;
+  /** The snapshots drawn by the view, published after every change. */
+  final SnapshotBuffer<Connect4Snapshot> snapshots;
 
   /**
    * Constructs a Connect4Model instance with specified board dimensions and cell size.
@@ -29,6 +68,17 @@ public class Connect4Model {
     this.cols = cols;
     this.rows = rows;
     this.cell = cell;
-    this.board = new int[rows][cols];
+    this.board = new Connect4Board(cols, rows);
+    this.snapshots = new SnapshotBuffer<>(() -> new Connect4Snapshot(cols, rows));
+    publish();
+  }
+
+  /**
+   * Publishes a snapshot of the current state for the view. Must be called on the Event Dispatch
+   * Thread, which makes every change to the game.
+   */
+  void publish() {
+    snapshots.back().capture(this);
+    snapshots.publish();
   }
 }
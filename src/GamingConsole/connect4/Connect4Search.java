@@ -0,0 +1,407 @@
+package GamingConsole.connect4;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Connect 4 move search.
+ * <p>
+ * Features:
+ * - Negamax with alpha-beta pruning over a {@link Connect4Board}, playing and undoing moves in
+ *   place.
+ * - Iterative deepening; the move from the last completed iteration is returned when the budget
+ *   runs out.
+ * - Move ordering that tries the transposition table's best move first and then the columns from
+ *   the center outwards.
+ * - A fixed-size transposition table that is kept between searches.
+ * - A node budget and a time budget, either of which ends the search, and a cancel flag owned by
+ *   the caller. Each search has its own flag, so a search cancelled before it got to run returns
+ *   at once instead of being revived by a later start.
+ * - Lazy SMP: with more than one thread, helper threads run the same iterative deepening on their
+ *   own board copies in a {@link ForkJoinPool}, sharing only the lock-free transposition table.
+ *   Helpers start at staggered depths so they fill the table with results the main thread reuses.
+ *   The node budget is counted against the main thread alone and the helpers run until it
+ *   finishes, so extra threads can only make a search of the same budget stronger. The helper
+ *   threads are released by {@link #close()}.
+ * - Searches on one instance are serialized, so a search can be started while a stopped one is
+ *   still unwinding on another thread.
+ * <p>
+ * Scores are from the side to move's point of view. A win scores {@link #WIN} minus the number of
+ * pieces on the board when the winning piece is dropped, so faster wins score higher. Positions
+ * at the depth horizon are scored by the difference in open four-in-a-row threats.
+ */
+public class Connect4Search implements AutoCloseable {
+  /** Base score of a won position. */
+  public static final int WIN = 10_000;
+
+  private static final int MAX_DEPTH = 64;
+
+  private final TranspositionTable table;
+  private final int threads;
+  private final ForkJoinPool pool;
+  private final long[] threadNodes;
+  private long deadline;
+  private AtomicBoolean cancel;
+  private int depthReached;
+  private int bestScore;
+  private volatile boolean stopped;
+
+  /**
+   * Constructs a single-threaded Connect4Search with a transposition table of
+   * {@code 1 << ttBits} slots.
+   *
+   * @param ttBits the base-2 logarithm of the transposition table size
+   */
+  public Connect4Search(int ttBits) {
+    this(ttBits, 1);
+  }
+
+  /**
+   * Constructs a Connect4Search that searches with the given number of threads, sharing a
+   * transposition table of {@code 1 << ttBits} slots.
+   *
+   * @param ttBits  the base-2 logarithm of the transposition table size
+   * @param threads the number of search threads, including the calling thread
+   */
+  public Connect4Search(int ttBits, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be positive: " + threads);
+    }
+    this.table = new TranspositionTable(ttBits);
+    this.threads = threads;
+    this.pool = threads > 1 ? new ForkJoinPool(threads - 1) : null;
+    this.threadNodes = new long[threads];
+  }
+
+  /**
+   * Searches for the best move in a position. The position is copied, so the caller's board is
+   * never modified.
+   *
+   * @param position  the position to search, which must not be over
+   * @param maxNodes  the node budget of the main thread, or 0 for no limit
+   * @param maxMillis the time budget in milliseconds, or 0 for no limit
+   * @return the best column found, or -1 if no move can be played
+   */
+  public int bestMove(Connect4Board position, long maxNodes, long maxMillis) {
+    return bestMove(position, maxNodes, maxMillis, MAX_DEPTH, new AtomicBoolean());
+  }
+
+  /**
+   * Searches for the best move in a position until the budget runs out or the search is
+   * cancelled. The position is copied, so the caller's board is never modified.
+   *
+   * @param position  the position to search, which must not be over
+   * @param maxNodes  the node budget of the main thread, or 0 for no limit
+   * @param maxMillis the time budget in milliseconds, or 0 for no limit
+   * @param cancel    set from any thread to end this search, even if it has not started yet
+   * @return the best column found, or -1 if no move can be played
+   */
+  public int bestMove(Connect4Board position, long maxNodes, long maxMillis,
+                      AtomicBoolean cancel) {
+    return bestMove(position, maxNodes, maxMillis, MAX_DEPTH, cancel);
+  }
+
+  /**
+   * Searches for the best move in a position, stopping after a fixed depth at the latest.
+   * The position is copied, so the caller's board is never modified.
+   *
+   * @param position  the position to search, which must not be over
+   * @param maxNodes  the node budget of the main thread, or 0 for no limit
+   * @param maxMillis the time budget in milliseconds, or 0 for no limit
+   * @param maxDepth  the deepest iteration to run, in plies
+   * @return the best column found, or -1 if no move can be played
+   */
+  public int bestMove(Connect4Board position, long maxNodes, long maxMillis, int maxDepth) {
+    return bestMove(position, maxNodes, maxMillis, maxDepth, new AtomicBoolean());
+  }
+
+  /**
+   * Searches for the best move in a position until the budget runs out, the search is cancelled
+   * or a fixed depth is completed. The position is copied, so the caller's board is never
+   * modified. A search cancelled before it starts returns the first playable column from the
+   * center outwards, unless a move wins at once.
+   *
+   * @param position  the position to search, which must not be over
+   * @param maxNodes  the node budget of the main thread, or 0 for no limit
+   * @param maxMillis the time budget in milliseconds, or 0 for no limit
+   * @param maxDepth  the deepest iteration to run, in plies
+   * @param cancel    set from any thread to end this search, even if it has not started yet
+   * @return the best column found, or -1 if no move can be played
+   */
+  public synchronized int bestMove(Connect4Board position, long maxNodes, long maxMillis,
+                                   int maxDepth, AtomicBoolean cancel) {
+    long budget = maxNodes > 0 ? maxNodes : Long.MAX_VALUE;
+    deadline = maxMillis > 0 ? System.currentTimeMillis() + maxMillis : Long.MAX_VALUE;
+    this.cancel = cancel;
+    stopped = cancel.get();
+    depthReached = 0;
+    bestScore = 0;
+    Arrays.fill(threadNodes, 0);
+
+    Worker main = new Worker(position, budget);
+    int immediate = main.immediateMove();
+    if (immediate != Worker.SEARCH) {
+      bestScore = main.score;
+      return immediate;
+    }
+    if (stopped) {
+      return main.best;
+    }
+
+    ForkJoinTask<?>[] helpers = new ForkJoinTask<?>[threads - 1];
+    Worker[] helperWorkers = new Worker[threads - 1];
+    for (int i = 0; i < helpers.length; i++) {
+      Worker helper = new Worker(position, Long.MAX_VALUE); // ends when the main thread does
+      int startDepth = 1 + (i + 1) % 2;
+      helperWorkers[i] = helper;
+      helpers[i] = pool.submit(() -> helper.iterate(startDepth, maxDepth));
+    }
+
+    main.iterate(1, maxDepth);
+    stopped = true;
+    threadNodes[0] = main.nodes;
+    for (int i = 0; i < helpers.length; i++) {
+      helpers[i].join();
+      threadNodes[i + 1] = helperWorkers[i].nodes;
+    }
+    depthReached = main.depthReached;
+    bestScore = main.score;
+    return main.best;
+  }
+
+  /**
+   * Shuts down the helper threads, after waiting for a running search to finish. The search must
+   * not be used afterwards.
+   */
+  @Override
+  public synchronized void close() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Returns the number of positions visited by the last search across all threads.
+   *
+   * @return the node count
+   */
+  public long nodes() {
+    long total = 0;
+    for (long n : threadNodes) {
+      total += n;
+    }
+    return total;
+  }
+
+  /**
+   * Returns the number of positions each thread visited in the last search. Index 0 is the
+   * calling thread.
+   *
+   * @return a copy of the per-thread node counts
+   */
+  public long[] threadNodes() {
+    return threadNodes.clone();
+  }
+
+  /**
+   * Returns the number of threads this search runs on.
+   *
+   * @return the thread count, including the calling thread
+   */
+  public int threads() {
+    return threads;
+  }
+
+  /**
+   * Returns the deepest iteration completed by the main thread in the last search.
+   *
+   * @return the depth in plies
+   */
+  public int depthReached() {
+    return depthReached;
+  }
+
+  /**
+   * Returns the score of the last completed iteration of the last search.
+   *
+   * @return the score from the side to move's point of view
+   */
+  public int bestScore() {
+    return bestScore;
+  }
+
+  /**
+   * Empties the transposition table.
+   */
+  public synchronized void clear() {
+    table.clear();
+  }
+
+  /**
+   * Returns the columns of a board ordered from the center outwards.
+   *
+   * @param cols the number of columns
+   * @return the column indices, center first
+   */
+  static int[] centerFirst(int cols) {
+    int[] order = new int[cols];
+    for (int i = 0; i < cols; i++) {
+      order[i] = cols / 2 + (1 - 2 * (i % 2)) * (i + 1) / 2;
+    }
+    return order;
+  }
+
+  /**
+   * The state of one search thread: its own copy of the board and its node count.
+   */
+  private final class Worker {
+    static final int SEARCH = -2;
+
+    private final Connect4Board board;
+    private final int[] order;
+    private final int rootCount;
+    private final long maxNodes;
+    private long nodes = 0;
+    private int best = -1;
+    private int score = 0;
+    private int depthReached = 0;
+    private int rootMove = -1;
+
+    Worker(Connect4Board position, long maxNodes) {
+      this.board = new Connect4Board(position);
+      this.order = centerFirst(board.cols());
+      this.rootCount = board.moveCount();
+      this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Handles root positions that need no search.
+     *
+     * @return the winning column, -1 if no column is playable, or SEARCH otherwise
+     */
+    int immediateMove() {
+      for (int c : order) {
+        if (board.canPlay(c)) {
+          if (best == -1) {
+            best = c;
+          }
+          if (board.isWinningMove(c)) {
+            score = WIN - board.moveCount() - 1;
+            return c;
+          }
+        }
+      }
+      return best == -1 ? -1 : SEARCH;
+    }
+
+    /**
+     * Runs iterative deepening until the budget runs out, the search is stopped, the result is
+     * proven or the depth limit is reached.
+     *
+     * @param startDepth the first depth to search
+     * @param maxDepth   the deepest iteration to run
+     */
+    void iterate(int startDepth, int maxDepth) {
+      int remaining = board.cols() * board.rows() - rootCount;
+      for (int depth = startDepth; depth <= Math.min(remaining, maxDepth); depth++) {
+        int s = negamax(depth, -WIN, WIN);
+        if (stopped) {
+          return;
+        }
+        if (rootMove >= 0) {
+          best = rootMove;
+        }
+        score = s;
+        depthReached = depth;
+        if (Math.abs(s) > WIN - board.cols() * board.rows() - 1) {
+          return; // proven win or loss
+        }
+      }
+    }
+
+    private int negamax(int depth, int alpha, int beta) {
+      if ((++nodes & 1023) == 0
+              && (nodes >= maxNodes || System.currentTimeMillis() >= deadline || cancel.get())) {
+        stopped = true;
+      }
+      if (stopped) {
+        return 0;
+      }
+      if (board.isFull()) {
+        return 0;
+      }
+      for (int c : order) {
+        if (board.canPlay(c) && board.isWinningMove(c)) {
+          return WIN - board.moveCount() - 1;
+        }
+      }
+      if (depth == 0) {
+        return evaluate();
+      }
+
+      int alphaOrig = alpha;
+      long key = board.key();
+      long entry = table.probe(key);
+      int ttMove = -1;
+      if (entry != 0) {
+        ttMove = TranspositionTable.move(entry);
+        if (TranspositionTable.depth(entry) >= depth && board.moveCount() != rootCount) {
+          int s = TranspositionTable.score(entry);
+          int bound = TranspositionTable.bound(entry);
+          if (bound == TranspositionTable.EXACT) {
+            return s;
+          }
+          if (bound == TranspositionTable.LOWER) {
+            alpha = Math.max(alpha, s);
+          }
+          else {
+            beta = Math.min(beta, s);
+          }
+          if (alpha >= beta) {
+            return s;
+          }
+        }
+      }
+
+      int bestScore = -WIN;
+      int bestMove = -1;
+      for (int i = -1; i < order.length; i++) {
+        int c = i < 0 ? ttMove : order[i];
+        if (c < 0 || (i >= 0 && c == ttMove) || !board.canPlay(c)) {
+          continue;
+        }
+        board.play(c);
+        int s = -negamax(depth - 1, -beta, -alpha);
+        board.undo();
+        if (stopped) {
+          return 0;
+        }
+        if (s > bestScore) {
+          bestScore = s;
+          bestMove = c;
+        }
+        if (s > alpha) {
+          alpha = s;
+        }
+        if (alpha >= beta) {
+          break;
+        }
+      }
+
+      if (board.moveCount() == rootCount) {
+        rootMove = bestMove;
+      }
+      int bound = bestScore <= alphaOrig ? TranspositionTable.UPPER
+              : bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+      table.store(key, bestScore, depth, bound, bestMove);
+      return bestScore;
+    }
+
+    private int evaluate() {
+      return Long.bitCount(board.threats(board.currentBits()))
+              - Long.bitCount(board.threats(board.opponentBits()));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package GamingConsole.connect4;
+
+/**
+ * Copy of what a frame of Connect 4 shows: the occupant of every cell, whose turn it is, whether
+ * the game is over or the computer opponent is thinking, and the opponent's settings.
+ */
+final class Connect4Snapshot {
+  private final int cols;
+  private final byte[] cells;
+  int current;
+  boolean gameOver;
+  boolean thinking;
+  boolean vsAI;
+  Connect4Model.Difficulty difficulty;
+
+  /**
+   * Constructs an empty Connect4Snapshot for a board.
+   *
+   * @param cols the number of columns on the board
+   * @param rows the number of rows on the board
+   */
+  Connect4Snapshot(int cols, int rows) {
+    this.cols = cols;
+    this.cells = new byte[cols * rows];
+  }
+
+  /**
+   * Copies the state of a game.
+   *
+   * @param model the game to copy
+   */
+  void capture(Connect4Model model) {
+    for (int r = 0; r < model.rows; r++) {
+      for (int c = 0; c < model.cols; c++) {
+        cells[r * cols + c] = (byte) model.board.cell(r, c);
+      }
+    }
+    current = model.board.current();
+    gameOver = model.gameOver;
+    thinking = model.thinking;
+    vsAI = model.vsAI;
+    difficulty = model.difficulty;
+  }
+
+  /**
+   * Returns the occupant of a cell.
+   *
+   * @param row the row index, 0 being the top row
+   * @param col the column index, starting from 0
+   * @return 0 for empty, 1 for player 1 or 2 for player 2
+   */
+  int cell(int row, int col) {
+    return cells[row * cols + col];
+  }
+}
@@ -0,0 +1,189 @@
+package GamingConsole.connect4;
+
+/**
+ * Perfect-play Connect 4 solver that proves the game-theoretic value of a position.
+ * <p>
+ * Features:
+ * - Negamax with alpha-beta over a {@link Connect4Board}, searched to the end of the game.
+ * - Only non-losing moves are explored, and forced replies to a single opponent threat are
+ *   played without branching.
+ * - Score bounds derived from the number of empty cells tighten the window at every node.
+ * - Moves are ordered by the number of threats they create, ties broken center first.
+ * - A transposition table stores proven upper bounds; it is kept between calls.
+ * - The root is solved with a sequence of null-window searches that narrow the score range.
+ * <p>
+ * Scores follow the usual convention: 0 is a draw, a positive score means the side to move
+ * wins and equals one plus the number of that player's pieces still in hand after the winning
+ * piece (so earlier wins score higher), and a negative score means the side to move loses.
+ */
+public class Connect4Solver {
+  private final TranspositionTable table;
+  private Connect4Board board;
+  private int[] order;
+  private int cells;
+  private int[][] moveBuffers;
+  private int[][] scoreBuffers;
+  private long nodes;
+
+  /**
+   * Constructs a Connect4Solver with a transposition table of {@code 1 << ttBits} slots.
+   *
+   * @param ttBits the base-2 logarithm of the transposition table size
+   */
+  public Connect4Solver(int ttBits) {
+    this.table = new TranspositionTable(ttBits);
+  }
+
+  /**
+   * Computes the exact score of a position. The position is copied, so the caller's board is
+   * never modified.
+   *
+   * @param position the position to solve, in which nobody has won yet
+   * @return the score from the side to move's point of view
+   */
+  public synchronized int solve(Connect4Board position) {
+    prepare(position);
+    if (board.canWinNext()) {
+      return (cells + 1 - board.moveCount()) / 2;
+    }
+    int min = -(cells - board.moveCount()) / 2;
+    int max = (cells + 1 - board.moveCount()) / 2;
+    while (min < max) {
+      int med = min + (max - min) / 2;
+      if (med <= 0 && min / 2 < med) {
+        med = min / 2;
+      }
+      else if (med >= 0 && max / 2 > med) {
+        med = max / 2;
+      }
+      int r = negamax(med, med + 1);
+      if (r <= med) {
+        max = r;
+      }
+      else {
+        min = r;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * Finds a move with the best proven score by solving every child position.
+   *
+   * @param position the position to move in, in which nobody has won yet
+   * @return the best column, or -1 if no column is playable
+   */
+  public synchronized int bestMove(Connect4Board position) {
+    Connect4Board work = new Connect4Board(position);
+    int best = -1;
+    int bestScore = Integer.MIN_VALUE;
+    for (int c : Connect4Search.centerFirst(work.cols())) {
+      if (!work.canPlay(c)) {
+        continue;
+      }
+      if (work.isWinningMove(c)) {
+        return c;
+      }
+      work.play(c);
+      int score = work.isFull() ? 0 : -solve(work);
+      work.undo();
+      if (score > bestScore) {
+        bestScore = score;
+        best = c;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the number of positions visited since the solver was created.
+   *
+   * @return the node count
+   */
+  public long nodes() {
+    return nodes;
+  }
+
+  private void prepare(Connect4Board position) {
+    board = new Connect4Board(position);
+    if (order == null || order.length != board.cols()
+            || cells != board.cols() * board.rows()) {
+      order = Connect4Search.centerFirst(board.cols());
+      cells = board.cols() * board.rows();
+      moveBuffers = new int[cells + 1][board.cols()];
+      scoreBuffers = new int[cells + 1][board.cols()];
+    }
+  }
+
+  /**
+   * Searches a position in which the side to move cannot win immediately.
+   *
+   * @param alpha the lower bound of the window
+   * @param beta  the upper bound of the window
+   * @return the exact score if it lies inside the window, otherwise a bound beyond it
+   */
+  private int negamax(int alpha, int beta) {
+    nodes++;
+    int moves = board.moveCount();
+    long next = board.nonLosingMoves();
+    if (next == 0) {
+      return -(cells - moves) / 2;
+    }
+    if (moves >= cells - 2) {
+      return 0;
+    }
+
+    int min = -(cells - 2 - moves) / 2;
+    if (alpha < min) {
+      alpha = min;
+      if (alpha >= beta) {
+        return alpha;
+      }
+    }
+    int max = (cells - 1 - moves) / 2;
+    long key = board.key();
+    long entry = table.probe(key);
+    if (entry != 0) {
+      max = TranspositionTable.score(entry);
+    }
+    if (beta > max) {
+      beta = max;
+      if (alpha >= beta) {
+        return beta;
+      }
+    }
+
+    int[] candidates = moveBuffers[moves];
+    int[] scores = scoreBuffers[moves];
+    int n = 0;
+    for (int i = order.length - 1; i >= 0; i--) {
+      long move = next & board.columnMask(order[i]);
+      if (move == 0) {
+        continue;
+      }
+      int score = board.moveScore(move);
+      int j = n++;
+      for (; j > 0 && scores[j - 1] > score; j--) {
+        candidates[j] = candidates[j - 1];
+        scores[j] = scores[j - 1];
+      }
+      candidates[j] = order[i];
+      scores[j] = score;
+    }
+
+    for (int i = n - 1; i >= 0; i--) {
+      board.play(candidates[i]);
+      int score = -negamax(-beta, -alpha);
+      board.undo();
+      if (score >= beta) {
+        return score;
+      }
+      if (score > alpha) {
+        alpha = score;
+      }
+    }
+
+    table.store(key, alpha, 0, TranspositionTable.UPPER, -1);
+    return alpha;
+  }
+}
@@ -4,6 +4,11 @@ import java.awt.*;
 
 import javax.swing.*;
 
+import GamingConsole.core.DirtyRegions;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.StaticLayer;
+import GamingConsole.core.Theme;
+
 /**
  * Represents the view component for the Connect 4 game, responsible for rendering the
  * game board and updating the visuals based on the game model state.
@@ -12,12 +17,30 @@ import javax.swing.*;
  * - Displays the Connect 4 game board with customizable dimensions and cell sizes.
  * - Represents empty cells, as well as cells occupied by the two players (red for player 1,
  * yellow for player 2), and outlines the placement of game pieces.
- * - Provides a visual indicator for the current player's turn or game-over status through
- * a HUD.
+ * - Provides a visual indicator for the current player's turn, the computer opponent's settings
+ * or game-over status through a HUD.
+ * - Pre-renders the background, the board and its empty holes into a {@link StaticLayer}, so a
+ * frame only draws the pieces and the HUD.
+ * - Repaints only the cells and the HUD the controller marks as changed between full repaints.
+ * - Paints with the colours and fonts of the shared {@link Theme} and HUD lines built once in
+ * advance, so a frame allocates none of them.
+ * - Draws the newest {@link Connect4Snapshot} the model published rather than the model itself.
+ * - Times every paint into the game's {@link GameMetrics}.
  */
 public class Connect4View extends JPanel {
+  private static final String GAME_OVER = "Game Over — Press R   (ESC to Menu)";
+  private static final String THINKING = "AI is thinking…   (ESC to Menu)";
+  private static final String RED_TURN = "Red's turn   (ESC to Menu)";
+  private static final String YELLOW_TURN = "Yellow's turn   (ESC to Menu)";
+  private static final String HUMAN_OPPONENT = "Yellow: human   A toggle AI, D change level";
+
   private final Connect4Model model;
   private final int margin = 20;
+  private final StaticLayer board = new StaticLayer(this::paintBoard);
+  private final DirtyRegions dirty = new DirtyRegions(this);
+  private final Theme theme = Theme.DEFAULT;
+  private final String[] aiOpponent = new String[Connect4Model.Difficulty.values().length];
+  final GameMetrics metrics;
 
   /**
    * Constructs a Connect4View instance configured to display the Connect 4 game board.
@@ -25,47 +48,111 @@ public class Connect4View extends JPanel {
    * @param model the Connect4Model containing the game board configuration and state
    */
   public Connect4View(Connect4Model model) {
+    this(model, new GameMetrics("c4"));
+  }
+
+  /**
+   * Constructs a Connect4View that records its paint times, and the move times of its
+   * controller, into the given metrics.
+   *
+   * @param model   the Connect4Model containing the game board configuration and state
+   * @param metrics the metrics to record into
+   */
+  public Connect4View(Connect4Model model, GameMetrics metrics) {
     this.model = model;
+    this.metrics = metrics;
     setPreferredSize(new Dimension(
             model.cols * model.cell + margin * 2, model.rows * model.cell + margin * 2 + 60));
-    setBackground(new Color(10, 60, 120));
+    setBackground(theme.connect4Background);
+    for (Connect4Model.Difficulty d : Connect4Model.Difficulty.values()) {
+      aiOpponent[d.ordinal()] = "Yellow: AI (" + d.label + ")   A toggle AI, D change level";
+    }
+  }
+
+  /**
+   * Marks a board cell as changed.
+   *
+   * @param row the row index, 0 being the top row
+   * @param col the column index, starting from 0
+   */
+  void markCell(int row, int col) {
+    dirty.add(margin + col * model.cell, margin + row * model.cell, model.cell, model.cell);
+  }
+
+  /**
+   * Marks the HUD below the board as changed.
+   */
+  void markStatus() {
+    int top = margin + model.rows * model.cell;
+    dirty.add(0, top, getWidth(), getHeight() - top);
+  }
+
+  /**
+   * Repaints the cells and the HUD marked since the last repaint.
+   */
+  void repaintMarked() {
+    dirty.paint();
   }
 
   @Override
   protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
+    long start = System.nanoTime();
     Graphics2D g2 = (Graphics2D) g;
+    board.draw(g2, getWidth(), getHeight());
+    Connect4Snapshot s = model.snapshots.acquire();
+    if (s == null) {
+      return;
+    }
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
     int boardX = margin;
     int boardY = margin;
-    int boardW = model.cols * model.cell;
     int boardH = model.rows * model.cell;
-
-    g2.setColor(new Color(20, 90, 170));
-    g2.fillRoundRect(boardX, boardY, boardW, boardH, 25, 25);
-
     int hole = model.cell - 20;
     int offset = (model.cell - hole) / 2;
 
     for (int r = 0; r < model.rows; r++) {
       for (int c = 0; c < model.cols; c++) {
-        int x = boardX + c * model.cell + offset;
-        int y = boardY + r * model.cell + offset;
-        g2.setColor(Color.WHITE);
-        g2.fillOval(x, y, hole, hole);
-        int v = model.board[r][c];
+        int v = s.cell(r, c);
         if (v != 0) {
-          g2.setColor(v == 1 ? new Color(220, 60, 60) : new Color(240, 210, 60));
+          int x = boardX + c * model.cell + offset;
+          int y = boardY + r * model.cell + offset;
+          g2.setColor(v == 1 ? theme.connect4Red : theme.connect4Yellow);
           g2.fillOval(x + 3, y + 3, hole - 6, hole - 6);
         }
       }
     }
 
-    g2.setColor(Color.BLACK);
-    g2.setFont(new Font("SansSerif", Font.BOLD, 18));
-    String status = model.gameOver ? "Game Over — Press R" :
-            (model.current == 1 ? "Red's turn" : "Yellow's turn");
-    g2.drawString(status + "   (ESC to Menu)", margin, boardY + boardH + 40);
+    g2.setColor(theme.connect4Text);
+    g2.setFont(theme.statusFont);
+    String status = s.gameOver ? GAME_OVER :
+            s.thinking ? THINKING :
+            (s.current == 1 ? RED_TURN : YELLOW_TURN);
+    g2.drawString(status, margin, boardY + boardH + 30);
+    g2.setFont(theme.hintFont);
+    String opponent = s.vsAI ? aiOpponent[s.difficulty.ordinal()] : HUMAN_OPPONENT;
+    g2.drawString(opponent, margin, boardY + boardH + 52);
+    metrics.painted(start);
+  }
+
+  /**
+   * Paints the parts of the board that never change: the background, the board and its holes.
+   */
+  private void paintBoard(Graphics2D g2, int width, int height) {
+    g2.setColor(getBackground());
+    g2.fillRect(0, 0, width, height);
+    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+    g2.setColor(theme.connect4Board);
+    g2.fillRoundRect(margin, margin, model.cols * model.cell, model.rows * model.cell, 25, 25);
+
+    int hole = model.cell - 20;
+    int offset = (model.cell - hole) / 2;
+    g2.setColor(theme.connect4Hole);
+    for (int r = 0; r < model.rows; r++) {
+      for (int c = 0; c < model.cols; c++) {
+        g2.fillOval(margin + c * model.cell + offset, margin + r * model.cell + offset, hole, hole);
+      }
+    }
   }
 }
@@ -0,0 +1,182 @@
+package GamingConsole.connect4;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only opening book of solved Connect 4 positions, stored in a compact binary file.
+ * <p>
+ * File layout (big-endian):
+ * - int magic {@code 0x43344231} ("C4B1"), byte columns, byte rows, byte plies, byte reserved,
+ *   int entry count.
+ * - The canonical position keys ({@link Connect4Board#canonicalKey()}) as longs, sorted
+ *   ascending.
+ * - One signed byte per key holding the position's score from the side to move's point of view,
+ *   as computed by {@link Connect4Solver}.
+ * <p>
+ * Constructing a book touches no files. The file is memory-mapped through a {@link FileChannel}
+ * on the first lookup and searched in place with a binary search, so startup never parses it.
+ * A missing or mismatched file simply makes every lookup miss.
+ */
+public class OpeningBook {
+  /** Returned by {@link #score(Connect4Board)} for positions the book does not contain. */
+  public static final int MISSING = Integer.MIN_VALUE;
+
+  private static final int MAGIC = 0x43344231;
+  private static final int HEADER = 12;
+
+  private final Path file;
+  private boolean opened = false;
+  private MappedByteBuffer buffer;
+  private int cols;
+  private int rows;
+  private int plies;
+  private int count;
+
+  /**
+   * Constructs an OpeningBook backed by a file. The file is not opened until the first lookup.
+   *
+   * @param file the book file written by {@link OpeningBookGenerator}
+   */
+  public OpeningBook(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Looks up the solved score of a position.
+   *
+   * @param board the position to look up
+   * @return the score from the side to move's point of view, or {@link #MISSING}
+   */
+  public synchronized int score(Connect4Board board) {
+    if (!covers(board)) {
+      return MISSING;
+    }
+    long key = board.canonicalKey();
+    int lo = 0;
+    int hi = count - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      long k = buffer.getLong(HEADER + mid * 8);
+      if (k < key) {
+        lo = mid + 1;
+      }
+      else if (k > key) {
+        hi = mid - 1;
+      }
+      else {
+        return buffer.get(HEADER + count * 8 + mid);
+      }
+    }
+    return MISSING;
+  }
+
+  /**
+   * Picks the best move from the book. A winning move is played directly; otherwise every
+   * playable child position must be in the book and the child that is worst for the opponent is
+   * chosen, ties broken towards the center.
+   *
+   * @param position the position to move in
+   * @return the best column, or -1 if the book does not cover every reply
+   */
+  public int bestMove(Connect4Board position) {
+    if (!covers(position) || position.moveCount() >= plies) {
+      return -1;
+    }
+    Connect4Board work = new Connect4Board(position);
+    int best = -1;
+    int bestScore = Integer.MIN_VALUE;
+    for (int c : Connect4Search.centerFirst(work.cols())) {
+      if (!work.canPlay(c)) {
+        continue;
+      }
+      if (work.isWinningMove(c)) {
+        return c;
+      }
+      work.play(c);
+      int child = work.isFull() ? 0 : score(work);
+      work.undo();
+      if (child == MISSING) {
+        return -1;
+      }
+      if (-child > bestScore) {
+        bestScore = -child;
+        best = c;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Writes a book file.
+   *
+   * @param out    the stream to write to
+   * @param cols   the number of columns of the solved board
+   * @param rows   the number of rows of the solved board
+   * @param plies  the number of plies the book covers
+   * @param keys   the canonical position keys, sorted ascending
+   * @param scores the score of each position
+   * @throws IOException if writing fails
+   */
+  static void write(OutputStream out, int cols, int rows, int plies, long[] keys, byte[] scores)
+          throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeByte(cols);
+    data.writeByte(rows);
+    data.writeByte(plies);
+    data.writeByte(0);
+    data.writeInt(keys.length);
+    for (long k : keys) {
+      data.writeLong(k);
+    }
+    data.write(scores);
+    data.flush();
+  }
+
+  /**
+   * Maps the file on first use and checks that it was built for the board's dimensions.
+   *
+   * @param board the board about to be looked up
+   * @return true if the book is usable for this board
+   */
+  private synchronized boolean covers(Connect4Board board) {
+    if (!opened) {
+      opened = true;
+      map();
+    }
+    return buffer != null && board.cols() == cols && board.rows() == rows
+            && board.moveCount() <= plies;
+  }
+
+  private void map() {
+    if (!Files.isRegularFile(file)) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (mapped.capacity() < HEADER || mapped.getInt(0) != MAGIC) {
+        return;
+      }
+      int n = mapped.getInt(8);
+      if ((long) HEADER + n * 9L != mapped.capacity()) {
+        return;
+      }
+      cols = mapped.get(4);
+      rows = mapped.get(5);
+      plies = mapped.get(6);
+      count = n;
+      buffer = mapped;
+    }
+    catch (IOException e) {
+      buffer = null;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package GamingConsole.connect4;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Command-line tool that builds an {@link OpeningBook} file.
+ * <p>
+ * It enumerates every position reachable within the given number of plies in which nobody has
+ * won yet, merges left-right mirror images, proves each position's score with a
+ * {@link Connect4Solver} and writes the results in the book's binary format. Positions close to
+ * the empty board take by far the longest to solve, so generating even a few plies for the
+ * standard 7x6 board is an offline job.
+ * <p>
+ * Usage: {@code java GamingConsole.connect4.OpeningBookGenerator <file> [plies] [cols] [rows]}
+ */
+public class OpeningBookGenerator {
+  private final Map<Long, Byte> solved = new TreeMap<>();
+  private final int plies;
+  private final Connect4Solver solver;
+
+  /**
+   * Constructs a generator for books covering the given number of plies.
+   *
+   * @param plies  the number of pieces on the board in the deepest book positions
+   * @param solver the solver used to prove each position's score
+   */
+  public OpeningBookGenerator(int plies, Connect4Solver solver) {
+    this.plies = plies;
+    this.solver = solver;
+  }
+
+  /**
+   * Solves every position of the book and writes the book.
+   *
+   * @param board an empty board of the dimensions to solve
+   * @param out   the stream to write the book to
+   * @throws IOException if writing fails
+   */
+  public void generate(Connect4Board board, OutputStream out) throws IOException {
+    visit(board);
+    long[] keys = new long[solved.size()];
+    byte[] scores = new byte[solved.size()];
+    int i = 0;
+    for (Map.Entry<Long, Byte> e : solved.entrySet()) {
+      keys[i] = e.getKey();
+      scores[i] = e.getValue();
+      i++;
+    }
+    OpeningBook.write(out, board.cols(), board.rows(), plies, keys, scores);
+  }
+
+  private void visit(Connect4Board board) {
+    if (board.isFull() || solved.containsKey(board.canonicalKey())) {
+      return;
+    }
+    solved.put(board.canonicalKey(), (byte) solver.solve(board));
+    if (solved.size() % 1000 == 0) {
+      System.out.println(solved.size() + " positions solved");
+    }
+    if (board.moveCount() == plies) {
+      return;
+    }
+    for (int c = 0; c < board.cols(); c++) {
+      if (board.canPlay(c) && !board.isWinningMove(c)) {
+        board.play(c);
+        visit(board);
+        board.undo();
+      }
+    }
+  }
+
+  /**
+   * Generates a book file.
+   *
+   * @param args the output file, then optionally the plies (default 8), columns and rows
+   *             (default 7x6)
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: OpeningBookGenerator <file> [plies] [cols] [rows]");
+      System.exit(2);
+    }
+    Path file = Paths.get(args[0]);
+    int plies = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+    int cols = args.length > 2 ? Integer.parseInt(args[2]) : 7;
+    int rows = args.length > 3 ? Integer.parseInt(args[3]) : 6;
+    OpeningBookGenerator generator = new OpeningBookGenerator(plies, new Connect4Solver(24));
+    try (OutputStream out = Files.newOutputStream(file)) {
+      generator.generate(new Connect4Board(cols, rows), out);
+    }
+    System.out.println("Wrote " + generator.solved.size() + " positions to " + file);
+  }
+}
@@ -0,0 +1,90 @@
+package GamingConsole.connect4;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table for the Connect 4 search, keyed on {@link Connect4Board#key()}.
+ * <p>
+ * Each slot holds a packed entry (score, depth, bound type and best move) in one {@code long}.
+ * The slot's key is stored XOR-ed with the entry, so a probe only trusts an entry whose key and
+ * data were written together. This makes the table safe to share between search threads without
+ * locks: a slot torn by two concurrent stores fails the check and reads as empty. Entries are
+ * always replaced on store.
+ */
+class TranspositionTable {
+  static final int EXACT = 1;
+  static final int LOWER = 2;
+  static final int UPPER = 3;
+
+  private final long[] keys;
+  private final long[] data;
+  private final int shift;
+
+  /**
+   * Constructs an empty table.
+   *
+   * @param bits the base-2 logarithm of the number of slots
+   */
+  TranspositionTable(int bits) {
+    this.keys = new long[1 << bits];
+    this.data = new long[1 << bits];
+    this.shift = 64 - bits;
+  }
+
+  /**
+   * Empties every slot.
+   */
+  void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(data, 0);
+  }
+
+  /**
+   * Looks up a position.
+   *
+   * @param key the position key
+   * @return the packed entry, or 0 if the position is not stored
+   */
+  long probe(long key) {
+    int i = index(key);
+    long d = data[i];
+    return d != 0 && (keys[i] ^ d) == key ? d : 0;
+  }
+
+  /**
+   * Stores the result of searching a position.
+   *
+   * @param key   the position key
+   * @param score the score from the side to move's point of view
+   * @param depth the remaining depth the score was searched to
+   * @param bound EXACT, LOWER or UPPER
+   * @param move  the best column found, or -1
+   */
+  void store(long key, int score, int depth, int bound, int move) {
+    long d = ((long) (score & 0xFFFF) << 24) | ((long) depth << 16) | ((long) bound << 8)
+            | (move + 1);
+    int i = index(key);
+    data[i] = d;
+    keys[i] = key ^ d;
+  }
+
+  static int score(long entry) {
+    return (short) (entry >>> 24);
+  }
+
+  static int depth(long entry) {
+    return (int) (entry >>> 16) & 0xFF;
+  }
+
+  static int bound(long entry) {
+    return (int) (entry >>> 8) & 0xFF;
+  }
+
+  static int move(long entry) {
+    return (int) (entry & 0xFF) - 1;
+  }
+
+  private int index(long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+  }
+}
@@ -0,0 +1,166 @@
+package GamingConsole.core;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Canvas that a dedicated thread renders whole frames into at a fixed rate, instead of painting
+ * when Swing's repaint manager gets round to it.
+ * <p>
+ * Features:
+ * - Active rendering: while started, a render thread draws a frame, shows it and sleeps until
+ *   the next frame is due, so the frame rate is set here rather than by how repaint requests
+ *   are coalesced on the Event Dispatch Thread. Frames are drawn at the screen's refresh rate or
+ *   144 frames per second, whichever is higher; a frame that is due late is dropped instead of
+ *   drawn in a burst.
+ * - Frames go through a {@link BufferStrategy} with two buffers, which flips pages where the
+ *   graphics pipeline supports it and blits the back buffer otherwise. Lost or restored buffer
+ *   contents are redrawn before the frame is shown.
+ * - The Event Dispatch Thread takes no part in drawing, so a busy frame cannot hold up input
+ *   handling. Repaints requested by the window system are ignored, as the next frame covers
+ *   them.
+ * - The canvas never takes the keyboard focus, so the key bindings of the Swing component it is
+ *   placed in keep working.
+ */
+public final class ActiveCanvas extends Canvas {
+  /**
+   * Draws the frames of an ActiveCanvas.
+   */
+  public interface Renderer {
+    /**
+     * Draws a whole frame. Called on the render thread.
+     *
+     * @param g      the graphics of the back buffer
+     * @param width  the width of the canvas
+     * @param height the height of the canvas
+     */
+    void render(Graphics2D g, int width, int height);
+  }
+
+  private static final int BUFFERS = 2;
+
+  private final Renderer renderer;
+  private final String threadName;
+  private final long frameNanos;
+  private volatile Thread loop;
+  private volatile BufferStrategy strategy;
+
+  /**
+   * Constructs an ActiveCanvas. Rendering starts with {@link #start()}.
+   *
+   * @param renderer   the renderer drawing every frame
+   * @param threadName the name of the render thread
+   */
+  public ActiveCanvas(Renderer renderer, String threadName) {
+    this.renderer = renderer;
+    this.threadName = threadName;
+    this.frameNanos = 1_000_000_000L / frameRate();
+    setIgnoreRepaint(true);
+    setFocusable(false);
+  }
+
+  /**
+   * Picks the number of frames to draw per second: the refresh rate of the screen, but at least
+   * 144.
+   *
+   * @return the frame rate
+   */
+  private static int frameRate() {
+    int rate = 0;
+    if (!GraphicsEnvironment.isHeadless()) {
+      rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+              .getDisplayMode().getRefreshRate();
+    }
+    return Math.max(144, rate);
+  }
+
+  /**
+   * Starts the render thread unless it is already running.
+   */
+  public void start() {
+    if (loop != null) {
+      return;
+    }
+    Thread t = new Thread(this::run, threadName);
+    t.setDaemon(true);
+    loop = t;
+    t.start();
+  }
+
+  /**
+   * Stops the render thread and waits for it to finish its current frame.
+   */
+  public void stop() {
+    Thread t = loop;
+    if (t == null) {
+      return;
+    }
+    loop = null;
+    t.interrupt();
+    try {
+      t.join();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void removeNotify() {
+    // the buffers belong to the peer being destroyed; the render thread is told to stop but not
+    // waited for, as this runs under the AWT tree lock
+    Thread t = loop;
+    loop = null;
+    if (t != null) {
+      t.interrupt();
+    }
+    strategy = null;
+    super.removeNotify();
+  }
+
+  /**
+   * Renders frames until the thread is stopped, skipping frames while the canvas is not shown.
+   */
+  private void run() {
+    Thread self = Thread.currentThread();
+    long next = System.nanoTime();
+    while (loop == self) {
+      if (isShowing() && getWidth() > 0 && getHeight() > 0) {
+        render();
+      }
+      long now = System.nanoTime();
+      next += frameNanos;
+      if (next < now) {
+        next = now; // drop the frames that are already late
+      }
+      LockSupport.parkNanos(next - now);
+    }
+  }
+
+  /**
+   * Draws one frame into the back buffer and shows it, drawing it again as long as the buffer
+   * contents are restored or lost in the meantime.
+   */
+  private void render() {
+    BufferStrategy bs = strategy;
+    if (bs == null) {
+      createBufferStrategy(BUFFERS);
+      bs = getBufferStrategy();
+      strategy = bs;
+    }
+    do {
+      do {
+        Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+        try {
+          renderer.render(g, getWidth(), getHeight());
+        }
+        finally {
+          g.dispose();
+        }
+      } while (bs.contentsRestored());
+      bs.show();
+    } while (bs.contentsLost());
+    Toolkit.getDefaultToolkit().sync();
+  }
+}
@@ -0,0 +1,142 @@
+package GamingConsole.core;
+
+import javax.swing.*;
+
+/**
+ * Collects the areas of a view that changed since it was last painted and repaints only those.
+ * <p>
+ * Features:
+ * - Regions that overlap or touch are merged as they are added, as long as the merged rectangle
+ *   covers no more than the two regions did; regions far apart stay separate. Once the maximum
+ *   number of regions is reached, a new region is merged into the one it grows least.
+ * - Each region is painted on its own with {@link JComponent#paintImmediately(int, int, int, int)}.
+ *   Swing's repaint manager unions all dirty rectangles of a component into one, so changes at
+ *   opposite edges, like the two Pong paddles, would otherwise repaint everything in between.
+ * - Regions may be added from any thread. {@link #paint()} paints at once on the Event Dispatch
+ *   Thread and otherwise schedules a single paint there, however often it is called before that
+ *   paint runs.
+ * - Nothing is allocated per region: the rectangles are kept in primitive arrays.
+ */
+public final class DirtyRegions {
+  private static final int MAX_REGIONS = 8;
+
+  private final JComponent view;
+  private final int[] x = new int[MAX_REGIONS];
+  private final int[] y = new int[MAX_REGIONS];
+  private final int[] w = new int[MAX_REGIONS];
+  private final int[] h = new int[MAX_REGIONS];
+  private final int[] paintX = new int[MAX_REGIONS];
+  private final int[] paintY = new int[MAX_REGIONS];
+  private final int[] paintW = new int[MAX_REGIONS];
+  private final int[] paintH = new int[MAX_REGIONS];
+  private final Runnable flush = this::flush;
+  private int count;
+  private boolean everything;
+  private boolean scheduled;
+
+  /**
+   * Constructs DirtyRegions for a view.
+   *
+   * @param view the component to repaint
+   */
+  public DirtyRegions(JComponent view) {
+    this.view = view;
+  }
+
+  /**
+   * Marks a rectangle of the view as changed.
+   *
+   * @param rx the left edge
+   * @param ry the top edge
+   * @param rw the width
+   * @param rh the height
+   */
+  public synchronized void add(int rx, int ry, int rw, int rh) {
+    if (rw <= 0 || rh <= 0 || everything) {
+      return;
+    }
+    int best = -1;
+    long bestGrowth = Long.MAX_VALUE;
+    for (int i = 0; i < count; i++) {
+      long union = (long) (Math.max(x[i] + w[i], rx + rw) - Math.min(x[i], rx))
+              * (Math.max(y[i] + h[i], ry + rh) - Math.min(y[i], ry));
+      long growth = union - (long) w[i] * h[i] - (long) rw * rh;
+      if (growth <= 0) {
+        merge(i, rx, ry, rw, rh);
+        return;
+      }
+      if (growth < bestGrowth) {
+        bestGrowth = growth;
+        best = i;
+      }
+    }
+    if (count < MAX_REGIONS) {
+      x[count] = rx;
+      y[count] = ry;
+      w[count] = rw;
+      h[count] = rh;
+      count++;
+    }
+    else {
+      merge(best, rx, ry, rw, rh);
+    }
+  }
+
+  /**
+   * Marks the whole view as changed.
+   */
+  public synchronized void addAll() {
+    everything = true;
+    count = 0;
+  }
+
+  /**
+   * Repaints the regions marked since the last paint: immediately when called on the Event
+   * Dispatch Thread, otherwise as soon as that thread gets to it.
+   */
+  public void paint() {
+    if (SwingUtilities.isEventDispatchThread()) {
+      flush();
+      return;
+    }
+    synchronized (this) {
+      if (scheduled) {
+        return;
+      }
+      scheduled = true;
+    }
+    SwingUtilities.invokeLater(flush);
+  }
+
+  private void merge(int i, int rx, int ry, int rw, int rh) {
+    int right = Math.max(x[i] + w[i], rx + rw);
+    int bottom = Math.max(y[i] + h[i], ry + rh);
+    x[i] = Math.min(x[i], rx);
+    y[i] = Math.min(y[i], ry);
+    w[i] = right - x[i];
+    h[i] = bottom - y[i];
+  }
+
+  private void flush() {
+    int n;
+    boolean all;
+    synchronized (this) {
+      scheduled = false;
+      all = everything;
+      n = count;
+      System.arraycopy(x, 0, paintX, 0, n);
+      System.arraycopy(y, 0, paintY, 0, n);
+      System.arraycopy(w, 0, paintW, 0, n);
+      System.arraycopy(h, 0, paintH, 0, n);
+      everything = false;
+      count = 0;
+    }
+    if (all) {
+      view.repaint();
+      return;
+    }
+    for (int i = 0; i < n; i++) {
+      view.paintImmediately(paintX[i], paintY[i], paintW[i], paintH[i]);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package GamingConsole.core;
+
+/**
+ * Lifecycle contract implemented by every game controller hosted in the Game Hub.
+ * <p>
+ * The hub drives these callbacks as the user navigates between cards:
+ * - {@link #activate()} is called the first time a game is shown and starts it from a fresh state.
+ * - {@link #suspend()} is called when the game's card is hidden. Any timers or background work
+ *   must stop so a hidden game uses no CPU on the Event Dispatch Thread.
+ * - {@link #resume()} is called when a suspended game is shown again and continues from exactly
+ *   the state it was suspended in.
+ * - {@link #dispose()} is called when the hub releases an idle game, after it was suspended.
+ *   Threads or other resources the game holds outside the Swing tree must be released here.
+ */
+public interface GameController {
+
+  /**
+   * Starts the game from its initial state and begins any periodic updates it needs.
+   */
+  void activate();
+
+  /**
+   * Stops all periodic updates while keeping the current game state intact.
+   */
+  void suspend();
+
+  /**
+   * Restarts periodic updates from the state saved by the last call to {@link #suspend()}.
+   */
+  void resume();
+
+  /**
+   * Releases the resources the game holds once the hub drops it. The controller is not used
+   * afterwards. The default implementation does nothing.
+   */
+  default void dispose() {
+  }
+}
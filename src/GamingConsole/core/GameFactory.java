@@ -0,0 +1,18 @@
+package GamingConsole.core;
+
+/**
+ * Builds the model, view and controller of a game on demand. Factories are registered with the
+ * hub up front but are only invoked the first time the game is opened.
+ */
+@FunctionalInterface
+public interface GameFactory {
+
+  /**
+   * Creates a new instance of the game.
+   *
+   * @param onBack  the action the game runs to return to the menu
+   * @param metrics the metrics the game records its timings into, which outlive the instance
+   * @return the constructed game module
+   */
+  GameModule create(Runnable onBack, GameMetrics metrics);
+}
@@ -0,0 +1,140 @@
+package GamingConsole.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing instrumentation of one game: how long ticks and paints take, how long an input takes to
+ * reach the screen, and how many frames the game loop dropped.
+ * <p>
+ * Features:
+ * - Ticks, paints and input-to-photon times are recorded into {@link LatencyHistogram}s, so
+ *   recording allocates nothing and costs little more than reading the clock.
+ * - Input-to-photon time runs from {@link #input()}, when the controller receives an input,
+ *   through {@link #published()}, when a snapshot reflecting it has been published, to the end
+ *   of the first paint after that. Further inputs before that paint are not timed separately.
+ * - A frame of the game loop that starts more than half a period late counts the periods it
+ *   missed as dropped frames. Turn-based games have no game loop and drop no frames.
+ * - Every method may be called from any thread. The metrics of a game live as long as the hub,
+ *   so they survive the game being suspended or released, and are published over JMX as a
+ *   {@link GameMetricsMXBean}.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+  private final String game;
+  private final LatencyHistogram tick = new LatencyHistogram();
+  private final LatencyHistogram paint = new LatencyHistogram();
+  private final LatencyHistogram inputToPhoton = new LatencyHistogram();
+  private final AtomicLong droppedFrames = new AtomicLong();
+  private final AtomicLong pendingInput = new AtomicLong();
+  private final AtomicLong publishedInput = new AtomicLong();
+  private volatile long lastFrame;
+
+  /**
+   * Constructs empty GameMetrics.
+   *
+   * @param game the key of the game being measured
+   */
+  public GameMetrics(String game) {
+    this.game = game;
+  }
+
+  /**
+   * Records a tick that started at the given time and ends now.
+   *
+   * @param start the {@link System#nanoTime()} at which the tick started
+   */
+  public void ticked(long start) {
+    tick.record(System.nanoTime() - start);
+  }
+
+  /**
+   * Records a paint that started at the given time and ends now, which completes the timing of
+   * an input published before it.
+   *
+   * @param start the {@link System#nanoTime()} at which the paint started
+   */
+  public void painted(long start) {
+    long now = System.nanoTime();
+    paint.record(now - start);
+    long input = publishedInput.getAndSet(0);
+    if (input != 0) {
+      inputToPhoton.record(now - input);
+    }
+  }
+
+  /**
+   * Notes that the controller received an input, unless an earlier one is still on its way.
+   */
+  public void input() {
+    pendingInput.compareAndSet(0, System.nanoTime());
+  }
+
+  /**
+   * Notes that a snapshot reflecting every input received so far has been published, so the
+   * next paint shows it.
+   */
+  public void published() {
+    long input = pendingInput.getAndSet(0);
+    if (input != 0) {
+      publishedInput.compareAndSet(0, input);
+    }
+  }
+
+  /**
+   * Starts counting dropped frames afresh, e.g. when the game loop is resumed after a pause,
+   * which is not a drop.
+   */
+  public void startFrames() {
+    lastFrame = 0;
+  }
+
+  /**
+   * Notes that a frame of the game loop started, and counts the frames missed since the last one.
+   * Must be called by one thread at a time.
+   *
+   * @param now    the {@link System#nanoTime()} at which the frame started
+   * @param period the intended time between frames in nanoseconds
+   */
+  public void frame(long now, long period) {
+    long last = lastFrame;
+    if (last != 0) {
+      long missed = (now - last + period / 2) / period - 1;
+      if (missed > 0) {
+        droppedFrames.addAndGet(missed);
+      }
+    }
+    lastFrame = now;
+  }
+
+  @Override
+  public String getGame() {
+    return game;
+  }
+
+  @Override
+  public LatencySummary getTick() {
+    return tick.summary();
+  }
+
+  @Override
+  public LatencySummary getPaint() {
+    return paint.summary();
+  }
+
+  @Override
+  public LatencySummary getInputToPhoton() {
+    return inputToPhoton.summary();
+  }
+
+  @Override
+  public long getDroppedFrames() {
+    return droppedFrames.get();
+  }
+
+  @Override
+  public void reset() {
+    tick.reset();
+    paint.reset();
+    inputToPhoton.reset();
+    droppedFrames.set(0);
+  }
+}
@@ -0,0 +1,49 @@
+package GamingConsole.core;
+
+/**
+ * Management interface through which the {@link GameMetrics} of a game are published over JMX,
+ * e.g. to JConsole or a monitoring agent. All durations are in microseconds.
+ */
+public interface GameMetricsMXBean {
+
+  /**
+   * Returns the key of the game the metrics belong to.
+   *
+   * @return the game's key
+   */
+  String getGame();
+
+  /**
+   * Returns how long the game takes to advance its state: a simulation step or tick, or the
+   * handling of a move in turn-based games.
+   *
+   * @return the tick durations
+   */
+  LatencySummary getTick();
+
+  /**
+   * Returns how long the game's view takes to draw a frame.
+   *
+   * @return the paint durations
+   */
+  LatencySummary getPaint();
+
+  /**
+   * Returns the time from a player's input to the end of the first frame that shows its effect.
+   *
+   * @return the input-to-photon durations
+   */
+  LatencySummary getInputToPhoton();
+
+  /**
+   * Returns how many frames of the game loop were missed because a frame started late.
+   *
+   * @return the number of dropped frames
+   */
+  long getDroppedFrames();
+
+  /**
+   * Discards everything recorded so far.
+   */
+  void reset();
+}
@@ -0,0 +1,42 @@
+package GamingConsole.core;
+
+import javax.swing.*;
+
+/**
+ * Holds the parts of a constructed game that the hub needs to host it: the Swing component that
+ * renders the game and the controller whose lifecycle the hub drives. The model stays private to
+ * the view and controller that were built around it.
+ */
+public final class GameModule {
+  private final JComponent view;
+  private final GameController controller;
+
+  /**
+   * Constructs a GameModule from a game's view and controller.
+   *
+   * @param view       the component displaying the game
+   * @param controller the controller managing the game's state and input
+   */
+  public GameModule(JComponent view, GameController controller) {
+    this.view = view;
+    this.controller = controller;
+  }
+
+  /**
+   * Returns the component that displays the game.
+   *
+   * @return the game's view
+   */
+  public JComponent view() {
+    return view;
+  }
+
+  /**
+   * Returns the controller whose lifecycle is driven by the hub.
+   *
+   * @return the game's controller
+   */
+  public GameController controller() {
+    return controller;
+  }
+}
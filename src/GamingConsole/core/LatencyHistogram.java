@@ -0,0 +1,125 @@
+package GamingConsole.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in the style of an HDR histogram: a fixed set of buckets covering a
+ * wide range with a bounded relative error, so percentiles can be read at any time without
+ * keeping the recorded values.
+ * <p>
+ * Features:
+ * - Durations are counted in whole microseconds. Values below 128 microseconds get a bucket
+ *   each; above that every power of two is split into 64 buckets, so a reported value is at most
+ *   1/64 (about 1.6%) above the true one. Values beyond a minute count as a minute.
+ * - Recording is a few array and atomic operations and allocates nothing, so it can be done on
+ *   every frame. Any thread may record, and any thread may read at the same time; a reading taken
+ *   while values are recorded may miss the newest of them.
+ * - The largest value is also kept exactly.
+ */
+public final class LatencyHistogram {
+  private static final int LINEAR = 128;
+  private static final int HALF = LINEAR / 2;
+  private static final int SHIFT = 6;
+  private static final long MAX_MICROS = 60_000_000L;
+  private static final int BUCKETS = index(MAX_MICROS) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong total = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds; negative values count as 0
+   */
+  public void record(long nanos) {
+    long micros = Math.max(0, Math.min(MAX_MICROS, nanos / 1000));
+    counts.incrementAndGet(index(micros));
+    total.incrementAndGet();
+    max.accumulateAndGet(micros, Math::max);
+  }
+
+  /**
+   * Returns the number of recorded durations.
+   *
+   * @return the count
+   */
+  public long count() {
+    return total.get();
+  }
+
+  /**
+   * Returns the largest recorded duration.
+   *
+   * @return the maximum in microseconds, or 0 if nothing was recorded
+   */
+  public long maxMicros() {
+    return max.get();
+  }
+
+  /**
+   * Returns the duration that a given fraction of the recorded durations do not exceed.
+   *
+   * @param fraction the fraction between 0 and 1, e.g. 0.99 for the 99th percentile
+   * @return the percentile in microseconds, or 0 if nothing was recorded
+   */
+  public long percentileMicros(double fraction) {
+    long n = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      n += counts.get(i);
+    }
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(fraction * n));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highest(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Returns a summary of the recorded durations.
+   *
+   * @return the count, median, 99th percentile and maximum
+   */
+  public LatencySummary summary() {
+    return new LatencySummary(count(), percentileMicros(0.5), percentileMicros(0.99),
+            maxMicros());
+  }
+
+  /**
+   * Discards everything recorded so far.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    total.set(0);
+    max.set(0);
+  }
+
+  /**
+   * Returns the bucket of a value: the value itself below {@link #LINEAR}, and otherwise the
+   * value's top {@link #SHIFT} + 1 bits offset by its magnitude. Computed without branches, so
+   * a rare long duration does not take the caller off its compiled fast path.
+   */
+  private static int index(long micros) {
+    int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(micros) - SHIFT);
+    return (int) (HALF * shift + (micros >> shift));
+  }
+
+  /**
+   * Returns the largest value that falls into a bucket.
+   */
+  private static long highest(int index) {
+    int shift = Math.max(0, (index >> SHIFT) - 1);
+    long sub = index - (long) HALF * shift;
+    return ((sub + 1) << shift) - 1;
+  }
+}
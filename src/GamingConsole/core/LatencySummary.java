@@ -0,0 +1,46 @@
+package GamingConsole.core;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Reading of a {@link LatencyHistogram} at one moment: how many durations were recorded and
+ * their median, 99th percentile and maximum. Exposed over JMX as a composite value.
+ */
+public final class LatencySummary {
+  private final long count;
+  private final long p50Micros;
+  private final long p99Micros;
+  private final long maxMicros;
+
+  /**
+   * Constructs a LatencySummary.
+   *
+   * @param count     the number of recorded durations
+   * @param p50Micros the median in microseconds
+   * @param p99Micros the 99th percentile in microseconds
+   * @param maxMicros the maximum in microseconds
+   */
+  @ConstructorProperties({"count", "p50Micros", "p99Micros", "maxMicros"})
+  public LatencySummary(long count, long p50Micros, long p99Micros, long maxMicros) {
+    this.count = count;
+    this.p50Micros = p50Micros;
+    this.p99Micros = p99Micros;
+    this.maxMicros = maxMicros;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getP50Micros() {
+    return p50Micros;
+  }
+
+  public long getP99Micros() {
+    return p99Micros;
+  }
+
+  public long getMaxMicros() {
+    return maxMicros;
+  }
+}
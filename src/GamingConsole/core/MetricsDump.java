@@ -0,0 +1,152 @@
+package GamingConsole.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exports the {@link GameMetrics} of the hosted games, so regressions can be tracked across
+ * runs.
+ * <p>
+ * Features:
+ * - Registers the metrics of every game as an MXBean named
+ *   {@code GamingConsole:type=GameMetrics,name=<game>} with the platform MBean server.
+ * - Appends the metrics of every game to a file on every dump: a CSV row per game and metric
+ *   under a header line when the file name ends in {@code .csv}, a JSON object per game and line
+ *   otherwise. Each line carries the time of the dump, so consecutive dumps of a session can be
+ *   compared.
+ * - Dumps periodically on a daemon thread and once more when the JVM shuts down.
+ */
+public final class MetricsDump {
+  private static final String CSV_HEADER = "timestamp,game,metric,count,p50_us,p99_us,max_us,"
+          + "dropped_frames";
+
+  private final List<GameMetrics> games;
+  private final Path file;
+  private final boolean csv;
+
+  /**
+   * Constructs a MetricsDump.
+   *
+   * @param games the metrics of the games to dump
+   * @param file  the file to append to; CSV if its name ends in {@code .csv}, JSON lines otherwise
+   */
+  public MetricsDump(List<GameMetrics> games, Path file) {
+    this.games = new ArrayList<>(games);
+    this.file = file;
+    this.csv = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+  }
+
+  /**
+   * Registers the metrics of each game with the platform MBean server.
+   *
+   * @param games the metrics of the games to register
+   */
+  public static void registerMBeans(List<GameMetrics> games) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (GameMetrics metrics : games) {
+      try {
+        ObjectName name = new ObjectName("GamingConsole:type=GameMetrics,name="
+                + metrics.getGame());
+        if (!server.isRegistered(name)) {
+          server.registerMBean(metrics, name);
+        }
+      }
+      catch (JMException ex) {
+        throw new IllegalStateException("Cannot register metrics of " + metrics.getGame(), ex);
+      }
+    }
+  }
+
+  /**
+   * Dumps every given number of milliseconds on a daemon thread, and once more at shutdown.
+   *
+   * @param periodMillis the time between dumps in milliseconds
+   */
+  public void start(long periodMillis) {
+    Thread dumper = new Thread(() -> {
+      try {
+        while (true) {
+          Thread.sleep(periodMillis);
+          write();
+        }
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }, "Metrics dump");
+    dumper.setDaemon(true);
+    dumper.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::write, "Metrics dump at exit"));
+  }
+
+  /**
+   * Appends the current metrics of every game to the file.
+   *
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  public synchronized void write() {
+    StringBuilder out = new StringBuilder();
+    if (csv && !Files.exists(file)) {
+      out.append(CSV_HEADER).append('\n');
+    }
+    format(out, System.currentTimeMillis());
+    try {
+      Files.write(file, out.toString().getBytes(StandardCharsets.UTF_8),
+              StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Formats the lines of one dump.
+   *
+   * @param out       the builder to append the lines to
+   * @param timestamp the time of the dump in milliseconds since the epoch
+   */
+  private void format(StringBuilder out, long timestamp) {
+    for (GameMetrics m : games) {
+      if (csv) {
+        csvRow(out, timestamp, m, "tick", m.getTick());
+        csvRow(out, timestamp, m, "paint", m.getPaint());
+        csvRow(out, timestamp, m, "input_to_photon", m.getInputToPhoton());
+      }
+      else {
+        out.append("{\"timestamp\":").append(timestamp)
+                .append(",\"game\":\"").append(m.getGame()).append('"');
+        jsonField(out, "tick", m.getTick());
+        jsonField(out, "paint", m.getPaint());
+        jsonField(out, "inputToPhoton", m.getInputToPhoton());
+        out.append(",\"droppedFrames\":").append(m.getDroppedFrames()).append("}\n");
+      }
+    }
+  }
+
+  private static void csvRow(StringBuilder out, long timestamp, GameMetrics m, String metric,
+                             LatencySummary s) {
+    out.append(timestamp).append(',').append(m.getGame()).append(',').append(metric)
+            .append(',').append(s.getCount()).append(',').append(s.getP50Micros())
+            .append(',').append(s.getP99Micros()).append(',').append(s.getMaxMicros())
+            .append(',').append(m.getDroppedFrames()).append('\n');
+  }
+
+  private static void jsonField(StringBuilder out, String name, LatencySummary s) {
+    out.append(",\"").append(name).append("\":{\"count\":").append(s.getCount())
+            .append(",\"p50Micros\":").append(s.getP50Micros())
+            .append(",\"p99Micros\":").append(s.getP99Micros())
+            .append(",\"maxMicros\":").append(s.getMaxMicros()).append('}');
+  }
+}
@@ -0,0 +1,80 @@
+package GamingConsole.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Triple-buffered hand-off of snapshots of a game's state from the thread that updates the game
+ * to the thread that draws it.
+ * <p>
+ * Features:
+ * - Three snapshot objects are allocated up front and reused. The writer owns the back one and
+ *   the reader owns the front one; the third, in the middle, holds the newest published
+ *   snapshot. Publishing swaps the back and the middle, and taking a snapshot swaps the middle
+ *   and the front if something new was published.
+ * - Wait-free: each swap is a single atomic exchange of one word holding the index of the
+ *   middle snapshot and whether it is newer than the reader's, so neither thread ever waits
+ *   for or retries because of the other, and no update is ever dropped.
+ * - The reader always gets the newest published snapshot and keeps it, unchanged, until it
+ *   takes the next one; intermediate snapshots it was too slow to see are simply replaced.
+ * <p>
+ * There must be one reading thread. Writes may come from several threads only if they are
+ * serialized, for example by always publishing while holding the model's monitor. The contents
+ * of a snapshot become visible to the reader through the atomic exchange, so snapshots need no
+ * synchronization of their own.
+ *
+ * @param <T> the type of the snapshots
+ */
+public final class SnapshotBuffer<T> {
+  private static final int INDEX = 3;
+  private static final int FRESH = 4;
+
+  private final Object[] slots;
+  /** The index of the middle snapshot, plus {@link #FRESH} if the reader has not taken it yet. */
+  private final AtomicInteger middle = new AtomicInteger(1);
+  private int back = 0;
+  private int front = 2;
+  private boolean published;
+
+  /**
+   * Constructs a SnapshotBuffer over three snapshot objects.
+   *
+   * @param factory creates each of the three snapshot objects
+   */
+  public SnapshotBuffer(Supplier<T> factory) {
+    this.slots = new Object[]{factory.get(), factory.get(), factory.get()};
+  }
+
+  /**
+   * Returns the snapshot the writer fills next. Called by the writer only.
+   *
+   * @return the back snapshot, which the reader never sees while it is being filled
+   */
+  @SuppressWarnings("unchecked")
+  public T back() {
+    return (T) slots[back];
+  }
+
+  /**
+   * Makes the back snapshot the newest one and hands the writer a free one. Called by the
+   * writer only, after filling {@link #back()}.
+   */
+  public void publish() {
+    back = middle.getAndSet(back | FRESH) & INDEX;
+  }
+
+  /**
+   * Takes the newest snapshot for reading. It stays unchanged until the next call. Called by
+   * the reader only.
+   *
+   * @return the newest snapshot, or null if none has been published yet
+   */
+  @SuppressWarnings("unchecked")
+  public T acquire() {
+    if ((middle.get() & FRESH) != 0) {
+      front = middle.getAndSet(front) & INDEX;
+      published = true;
+    }
+    return published ? (T) slots[front] : null;
+  }
+}
@@ -0,0 +1,136 @@
+package GamingConsole.core;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Pre-rendered image of the parts of a view that do not change from frame to frame, such as a
+ * background, a grid or a board frame.
+ * <p>
+ * Features:
+ * - The layer is painted once into an image compatible with the screen it is shown on and every
+ *   frame afterwards only blits that image, so a view's paint method draws just its moving parts.
+ * - On screen the image is a {@link VolatileImage}, which the graphics pipeline can keep in video
+ *   memory; when its contents are lost, for example after a display mode change, it is repainted
+ *   and drawn again. When painting into an off-screen image, a {@link BufferedImage} is used.
+ * - The image is rebuilt when the size of the area, the screen or the display scale changes, and
+ *   after {@link #invalidate()}, which views call when what the layer shows changes. It is
+ *   rendered at the scale of the screen's default transform, so it stays sharp on scaled
+ *   displays. The scale is read once per graphics configuration rather than from the graphics
+ *   of every frame, as {@link Graphics2D#getTransform()} returns a new transform on each call.
+ */
+public final class StaticLayer {
+  /**
+   * Paints the contents of a layer.
+   */
+  public interface Painter {
+    /**
+     * Paints the layer in the coordinates of the view it belongs to.
+     *
+     * @param g      the graphics to paint with
+     * @param width  the width of the area covered by the layer
+     * @param height the height of the area covered by the layer
+     */
+    void paint(Graphics2D g, int width, int height);
+  }
+
+  private final Painter painter;
+  private GraphicsConfiguration config;
+  private double configScaleX;
+  private double configScaleY;
+  private Image image;
+  private int width;
+  private int height;
+  private double scaleX;
+  private double scaleY;
+  private boolean valid;
+
+  /**
+   * Constructs a StaticLayer that is painted by the given painter whenever it is rebuilt.
+   *
+   * @param painter the painter of the layer's contents
+   */
+  public StaticLayer(Painter painter) {
+    this.painter = painter;
+  }
+
+  /**
+   * Marks the layer as outdated, so it is painted again before it is next drawn.
+   */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Draws the layer at the origin, rebuilding it first if it is missing or outdated.
+   *
+   * @param g      the graphics of the view being painted
+   * @param width  the width of the area covered by the layer
+   * @param height the height of the area covered by the layer
+   */
+  public void draw(Graphics2D g, int width, int height) {
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    GraphicsConfiguration gc = g.getDeviceConfiguration();
+    if (gc != config) {
+      AffineTransform transform = gc.getDefaultTransform();
+      configScaleX = transform.getScaleX();
+      configScaleY = transform.getScaleY();
+      config = gc;
+    }
+    double sx = configScaleX;
+    double sy = configScaleY;
+    boolean onScreen = gc.getDevice().getType() != GraphicsDevice.TYPE_IMAGE_BUFFER;
+    if (!valid || image == null || width != this.width || height != this.height
+            || sx != scaleX || sy != scaleY || onScreen != image instanceof VolatileImage) {
+      create(gc, onScreen, width, height, sx, sy);
+    }
+    if (!(image instanceof VolatileImage)) {
+      g.drawImage(image, 0, 0, width, height, null);
+      return;
+    }
+    VolatileImage volatileImage = (VolatileImage) image;
+    do {
+      int status = volatileImage.validate(gc);
+      if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+        create(gc, true, width, height, sx, sy);
+        volatileImage = (VolatileImage) image;
+      }
+      else if (status == VolatileImage.IMAGE_RESTORED) {
+        render();
+      }
+      g.drawImage(volatileImage, 0, 0, width, height, null);
+    } while (volatileImage.contentsLost());
+  }
+
+  private void create(GraphicsConfiguration gc, boolean onScreen, int width, int height,
+                      double sx, double sy) {
+    if (image != null) {
+      image.flush();
+    }
+    int w = (int) Math.ceil(width * sx);
+    int h = (int) Math.ceil(height * sy);
+    image = onScreen ? gc.createCompatibleVolatileImage(w, h)
+            : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    this.width = width;
+    this.height = height;
+    this.scaleX = sx;
+    this.scaleY = sy;
+    render();
+  }
+
+  private void render() {
+    Graphics2D g = (Graphics2D) image.getGraphics();
+    try {
+      g.scale(scaleX, scaleY);
+      painter.paint(g, width, height);
+    }
+    finally {
+      g.dispose();
+    }
+    valid = true;
+  }
+}
@@ -0,0 +1,92 @@
+package GamingConsole.core;
+
+import java.awt.*;
+
+/**
+ * Shared palette of the colours, fonts and strokes the game views and the menu paint with.
+ * <p>
+ * Features:
+ * - Immutable: every field is final and every value it holds is immutable, so one instance can
+ *   be shared by all views and read from any thread without copying.
+ * - Painting code reads its colours, fonts and strokes from here instead of creating them, so a
+ *   frame allocates none of them. Variants such as the darker colours of a pressed card are
+ *   derived once when the theme is built.
+ */
+public final class Theme {
+  /** The theme every view and the menu use. */
+  public static final Theme DEFAULT = new Theme();
+
+  /** Bold font of the status line of a board game. */
+  public final Font statusFont = new Font("SansSerif", Font.BOLD, 18);
+  /** Plain font of the hint line of a board game. */
+  public final Font hintFont = new Font("SansSerif", Font.PLAIN, 14);
+  /** Bold monospaced font of the Snake status line. */
+  public final Font snakeStatusFont = new Font("Monospaced", Font.BOLD, 16);
+  /** Bold monospaced font of the Pong score. */
+  public final Font scoreFont = new Font("Monospaced", Font.BOLD, 18);
+  /** Plain monospaced font of the Pong key help. */
+  public final Font smallMonoFont = new Font("Monospaced", Font.PLAIN, 12);
+  /** Stroke of the Tic-Tac-Toe grid and marks. */
+  public final BasicStroke thickStroke = new BasicStroke(4);
+
+  public final Color snakeBackground = new Color(20, 20, 20);
+  public final Color snakeGrid = new Color(40, 40, 40);
+  public final Color snakeBody = new Color(0, 255, 156);
+  public final Color snakeFood = new Color(255, 90, 90);
+  public final Color snakeText = Color.WHITE;
+
+  public final Color connect4Background = new Color(10, 60, 120);
+  public final Color connect4Board = new Color(20, 90, 170);
+  public final Color connect4Hole = Color.WHITE;
+  public final Color connect4Red = new Color(220, 60, 60);
+  public final Color connect4Yellow = new Color(240, 210, 60);
+  public final Color connect4Text = Color.BLACK;
+
+  public final Color tttBackground = Color.WHITE;
+  public final Color tttGrid = Color.BLACK;
+  public final Color tttX = new Color(200, 40, 40);
+  public final Color tttO = new Color(40, 100, 220);
+  public final Color tttText = Color.DARK_GRAY;
+
+  public final Color pongBackground = new Color(15, 15, 20);
+  public final Color pongForeground = Color.WHITE;
+
+  public final Color menuTop = new Color(12, 16, 24);
+  public final Color menuBottom = new Color(18, 22, 32);
+  public final Color menuGridTop = new Color(18, 22, 30);
+  public final Color menuGridBottom = new Color(28, 34, 46);
+  public final Color menuGlow = new Color(255, 255, 255, 20);
+  public final Color menuVignette = new Color(0, 0, 0, 40);
+  public final Color menuTitle = new Color(245, 245, 250);
+  public final Color menuTitleShadow = new Color(0, 0, 0, 60);
+  public final Color menuHelp = new Color(220, 225, 230);
+  public final Font menuTitleFont = new Font(Font.DIALOG, Font.BOLD, 44);
+  public final Font menuHelpFont = new Font("Monospaced", Font.PLAIN, 13);
+
+  public final Color cardTop = new Color(42, 54, 88);
+  public final Color cardBottom = new Color(32, 42, 70);
+  public final Color cardHoverTop = new Color(56, 96, 220);
+  public final Color cardHoverBottom = new Color(36, 70, 180);
+  public final Color cardPressedTop = cardTop.darker();
+  public final Color cardPressedBottom = cardBottom.darker();
+  public final Color cardHoverPressedTop = cardHoverTop.darker();
+  public final Color cardHoverPressedBottom = cardHoverBottom.darker();
+  public final Color cardOutline = new Color(255, 255, 255, 40);
+  public final Color cardForeground = new Color(240, 242, 248);
+  public final Color cardTitle = new Color(250, 252, 255);
+  public final Color cardSubtitle = new Color(210, 218, 230);
+  public final Color cardIconLight = new Color(240, 240, 250);
+  public final Color cardIconBoard = new Color(230, 230, 240);
+  public final Color cardIconSnake = new Color(120, 220, 140);
+  public final Color cardIconEye = new Color(30, 30, 30);
+  public final Font cardFont = new Font("SansSerif", Font.BOLD, 20);
+  public final Font cardTitleFont = new Font("SansSerif", Font.BOLD, 22);
+  public final Font cardSubtitleFont = new Font("SansSerif", Font.PLAIN, 14);
+
+  public final Color metricsBackground = new Color(0, 0, 0, 180);
+  public final Color metricsText = new Color(235, 240, 245);
+  public final Color metricsWarning = new Color(255, 190, 70);
+
+  private Theme() {
+  }
+}
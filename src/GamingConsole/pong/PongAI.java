@@ -0,0 +1,157 @@
+package GamingConsole.pong;
+
+import java.util.Random;
+
+/**
+ * Computer player for one Pong paddle.
+ * <p>
+ * Features:
+ * - Solves where the ball will meet the paddle analytically: the ball travels in a straight line
+ *   between bounces, so its height at the paddle is found by unfolding the path through the top
+ *   and bottom walls, which turns every wall bounce into a reflection of a triangle wave.
+ * - Plans once per trajectory: a new plan is made only when the ball it watches changes speed
+ *   other than by bouncing off a wall, which in a normal game means once per paddle hit or
+ *   serve, not once per frame. While no ball is heading its way it returns to the middle.
+ * - Difficulty tiers that set how long the paddle takes to react to a new trajectory and how far
+ *   off its aim may be.
+ * - Works for either paddle, so the computer can play both sides of a headless match.
+ * <p>
+ * Time is counted in simulation steps, so an AI behaves the same at any frame rate and when a
+ * match is simulated faster than real time.
+ */
+class PongAI {
+  /**
+   * Strength of the computer player, expressed as a reaction delay and an aiming error.
+   */
+  enum Difficulty {
+    EASY("Easy", 0.25, 52),
+    MEDIUM("Medium", 0.18, 40),
+    HARD("Hard", 0.08, 20),
+    PERFECT("Perfect", 0, 0);
+
+    final String label;
+    /** Seconds between a new trajectory and the paddle starting to move for it. */
+    final double reaction;
+    /** The largest distance in pixels the paddle's aim may be off the intercept. */
+    final double error;
+
+    Difficulty(String label, double reaction, double error) {
+      this.label = label;
+      this.reaction = reaction;
+      this.error = error;
+    }
+
+    Difficulty next() {
+      return values()[(ordinal() + 1) % values().length];
+    }
+  }
+
+  final Difficulty difficulty;
+  private final Random random;
+  private final int delaySteps;
+  private int plannedBall = -1;
+  private double plannedVx;
+  private double plannedSpeedY;
+  private double pending;
+  private double target = Double.NaN;
+  private int wait;
+  private int plans;
+
+  /**
+   * Constructs a PongAI with its own unseeded random aiming errors.
+   *
+   * @param difficulty the strength of the player
+   */
+  PongAI(Difficulty difficulty) {
+    this(difficulty, new Random());
+  }
+
+  /**
+   * Constructs a PongAI whose aiming errors come from the given generator, for reproducible
+   * matches.
+   *
+   * @param difficulty the strength of the player
+   * @param random     the source of the aiming errors
+   */
+  PongAI(Difficulty difficulty, Random random) {
+    this.difficulty = difficulty;
+    this.random = random;
+    this.delaySteps = (int) Math.round(difficulty.reaction / PongModel.STEP);
+  }
+
+  /**
+   * Decides how far to move a paddle during the coming step, planning a new intercept if the
+   * ball's trajectory has changed.
+   *
+   * @param model the game, which must hold the paddle
+   * @param p     the paddle to move
+   * @param side  1 if the paddle's face points right, -1 if it points left
+   * @return the vertical distance to move, negative for up
+   */
+  double move(PongModel model, PongModel.Paddle p, int side) {
+    int ball = model.approaching(p, side);
+    boolean replan = ball != plannedBall
+            || ball >= 0 && (model.vx[ball] != plannedVx
+            || Math.abs(model.vy[ball]) != plannedSpeedY);
+    if (replan) {
+      plannedBall = ball;
+      if (ball >= 0) {
+        plannedVx = model.vx[ball];
+        plannedSpeedY = Math.abs(model.vy[ball]);
+        double miss = (2 * random.nextDouble() - 1) * difficulty.error;
+        pending = intercept(model, p, side, ball) + miss;
+        plans++;
+      }
+      else {
+        pending = model.Height / 2.0 - p.height / 2.0;
+      }
+      wait = delaySteps;
+    }
+    if (Double.isNaN(target)) {
+      target = p.y;
+    }
+    if (wait > 0) {
+      wait--;
+    }
+    else {
+      target = pending;
+    }
+    double reach = PongModel.PADDLE_SPEED * PongModel.STEP;
+    return Math.max(-reach, Math.min(reach, target - p.y));
+  }
+
+  /**
+   * Returns the number of intercepts planned so far.
+   *
+   * @return the plan count
+   */
+  int plans() {
+    return plans;
+  }
+
+  /**
+   * Solves where the paddle must be to meet a ball: the time until the ball reaches the
+   * paddle's face, and the height it will be at by then after bouncing between the walls.
+   *
+   * @param model the game
+   * @param p     the paddle
+   * @param side  1 if the paddle's face points right, -1 if it points left
+   * @param ball  the ball, which must be heading for the paddle
+   * @return the paddle's top edge that centres it on the ball at impact
+   */
+  static double intercept(PongModel model, PongModel.Paddle p, int side, int ball) {
+    double face = side > 0 ? p.x + p.width : p.x - PongModel.BALL;
+    double t = (face - model.ballX[ball]) / model.vx[ball];
+    double y = model.ballY[ball] + model.vy[ball] * Math.max(0, t);
+    double low = PongModel.WALL;
+    double span = model.Height - 2 * PongModel.WALL - PongModel.BALL;
+    double u = (y - low) % (2 * span);
+    if (u < 0) {
+      u += 2 * span;
+    }
+    if (u > span) {
+      u = 2 * span - u;
+    }
+    return low + u + PongModel.BALL / 2.0 - p.height / 2.0;
+  }
+}
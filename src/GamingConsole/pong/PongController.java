@@ -1,32 +1,44 @@
 package GamingConsole.pong;
 
+import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
 
 import javax.swing.*;
 
+import GamingConsole.core.GameController;
+import GamingConsole.core.GameMetrics;
+
 /**
  * Controls the Pong game logic and user interaction in a Model-View-Controller (MVC) architecture.
  * <p>
  * PongController acts as the central component that manages the game's interaction, updates,
  * and flow by connecting the PongModel (game state) and PongView (visual representation).
- * It handles user input, game state updates, collisions, and scoring.
+ * It handles user input and drives the game state updates, which PongModel applies.
  * <p>
  * Key Responsibilities:
  * - Initialize and reset the game state and visuals.
  * - Handle user input through key bindings for controlling the left paddle and other actions.
- * - Implement collision detection and physics for the ball, paddles, and walls.
- * - Manage the scoring system and resetting the game upon scoring.
- * - Provide simple artificial intelligence for the right paddle to follow the ball.
+ * - Switch between a normal game and the multi-ball stress mode.
+ * - Hand the left paddle to a computer player and change the computer players' difficulty.
+ * - Run the fixed-timestep simulation on its own thread while the game is shown, decoupled
+ *   from the frame rate and from hiccups of the Event Dispatch Thread.
+ * - Request a repaint of the areas that changed after every simulation frame, at the screen's
+ *   refresh rate or 120 frames per second, whichever is higher, or in active rendering mode
+ *   publish a snapshot for the view's render thread, which runs while the game is shown.
+ * - Record the time of every simulation frame, late frames and paddle inputs into the view's
+ *   {@link GameMetrics}.
  */
-public class PongController {
+public class PongController implements GameController {
   private final PongModel model;
   private final PongView view;
   private final Runnable onBack;
-  private final Timer timer; // javax.swing.Timer explicitly imported
-  private boolean up = false;
-  private boolean down = false;
+  private final long frameNanos;
+  private final GameMetrics metrics;
+  private volatile Thread loop;
+  private volatile boolean up = false;
+  private volatile boolean down = false;
 
   /**
    * Constructs a PongController which serves as the controller component of the Pong game
@@ -41,22 +53,126 @@ public class PongController {
     this.model = model;
     this.view = view;
     this.onBack = onBack;
-    this.timer = new Timer(12, e -> tick());
+    this.metrics = view.metrics;
+    this.frameNanos = 1_000_000_000L / frameRate();
     installKeyBindings();
     reset();
-    timer.start();
+  }
+
+  @Override
+  public void activate() {
+    synchronized (model) {
+      model.scoreL = model.scoreR = 0;
+    }
+    reset();
+    start();
+    view.startRendering();
+  }
+
+  @Override
+  public void suspend() {
+    view.stopRendering();
+    stop();
+    // key releases are not delivered while the card is hidden
+    up = false;
+    down = false;
+  }
+
+  @Override
+  public void resume() {
+    start();
+    view.startRendering();
   }
 
   public void reset() {
-    model.ball.setBounds(model.Width / 2 - 8, model.Height / 2 - 8, 16, 16);
-    Random r = new Random();
-    model.vx = r.nextBoolean() ? 4 : -4;
-    model.vy = r.nextBoolean() ? 3 : -3;
-    model.paddleL.setBounds(30, model.Height / 2 - 40, 12, 80);
-    model.paddleR.setBounds(model.Width - 42, model.Height / 2 - 50, 12, 100);
+    synchronized (model) {
+      model.serve();
+      model.publish();
+    }
     view.repaint();
   }
 
+  /**
+   * Picks the number of frames to draw per second: the refresh rate of the screen, but at least
+   * 120 so motion stays smooth on displays that do not report one.
+   *
+   * @return the frame rate
+   */
+  private static int frameRate() {
+    int rate = 0;
+    if (!GraphicsEnvironment.isHeadless()) {
+      rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+              .getDisplayMode().getRefreshRate();
+    }
+    return Math.max(120, rate);
+  }
+
+  /**
+   * Starts the simulation thread unless it is already running.
+   */
+  private void start() {
+    if (loop != null) {
+      return;
+    }
+    Thread t = new Thread(this::run, "Pong simulation");
+    t.setDaemon(true);
+    loop = t;
+    t.start();
+  }
+
+  /**
+   * Stops the simulation thread and waits for it to finish its current frame, so the model is
+   * not touched after the game is suspended.
+   */
+  private void stop() {
+    Thread t = loop;
+    if (t == null) {
+      return;
+    }
+    loop = null;
+    t.interrupt();
+    try {
+      t.join();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Runs the simulation until the thread is stopped. Each frame adds the elapsed time to an
+   * accumulator, plays as many fixed steps as it holds, and asks the view to paint; the time
+   * left over tells the view how far to interpolate between the last two steps. A long stall
+   * counts as at most a quarter of a second, so the game never races to catch up.
+   */
+  private void run() {
+    Thread self = Thread.currentThread();
+    long previous = System.nanoTime();
+    long lag = 0;
+    metrics.startFrames();
+    while (loop == self) {
+      long now = System.nanoTime();
+      metrics.frame(now, frameNanos);
+      lag += Math.min(now - previous, 250_000_000L);
+      previous = now;
+      synchronized (model) {
+        long start = System.nanoTime();
+        model.inputL = (down ? 1 : 0) - (up ? 1 : 0);
+        while (lag >= PongModel.STEP_NANOS) {
+          model.step();
+          lag -= PongModel.STEP_NANOS;
+        }
+        model.stepStart = now - lag;
+        model.publish();
+        metrics.published();
+        metrics.ticked(start);
+        view.markMoving();
+      }
+      view.repaintMarked();
+      LockSupport.parkNanos(now + frameNanos - System.nanoTime());
+    }
+  }
+
   private void installKeyBindings() {
     InputMap im = view.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
     ActionMap am = view.getActionMap();
@@ -64,33 +180,76 @@ public class PongController {
     am.put("upP", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
         up = true;
+        metrics.input();
       }
     });
     im.put(KeyStroke.getKeyStroke("released UP"), "upR");
     am.put("upR", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
         up = false;
+        metrics.input();
       }
     });
     im.put(KeyStroke.getKeyStroke("pressed DOWN"), "dnP");
     am.put("dnP", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
         down = true;
+        metrics.input();
       }
     });
     im.put(KeyStroke.getKeyStroke("released DOWN"), "dnR");
     am.put("dnR", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
         down = false;
+        metrics.input();
       }
     });
     im.put(KeyStroke.getKeyStroke(KeyEvent.VK_R, 0), "reset");
     am.put("reset", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
-        model.scoreL = model.scoreR = 0;
+        synchronized (model) {
+          model.scoreL = model.scoreR = 0;
+        }
         reset();
       }
     });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_A, 0), "autoplay");
+    am.put("autoplay", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        synchronized (model) {
+          model.aiL = model.aiL == null ? new PongAI(model.aiR.difficulty) : null;
+          model.publish();
+        }
+        view.markStatus();
+        view.repaintMarked();
+      }
+    });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_D, 0), "difficulty");
+    am.put("difficulty", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        synchronized (model) {
+          PongAI.Difficulty level = model.aiR.difficulty.next();
+          model.aiR = new PongAI(level);
+          if (model.aiL != null) {
+            model.aiL = new PongAI(level);
+          }
+          model.publish();
+        }
+        view.markStatus();
+        view.repaintMarked();
+      }
+    });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_M, 0), "multiBall");
+    am.put("multiBall", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        synchronized (model) {
+          model.scoreL = model.scoreR = 0;
+          model.setBalls(model.balls == 1 ? PongModel.STRESS_BALLS : 1);
+          model.publish();
+        }
+        view.repaint();
+      }
+    });
     im.put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "menu");
     am.put("menu", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
@@ -98,59 +257,4 @@ public class PongController {
       }
     });
   }
-
-  private void tick() {
-    if (up) {
-      model.paddleL.y = Math.max(10, model.paddleL.y - 6);
-    }
-    if (down) {
-      model.paddleL.y = Math.min(model.Height - model.paddleL.height - 10, model.paddleL.y + 6);
-    }
-
-    int targetY = model.ball.y - model.paddleR.height / 2 + 8;
-    if (model.paddleR.y < targetY) {
-      model.paddleR.y += 4;
-    }
-    else {
-      model.paddleR.y -= 4;
-    }
-    model.paddleR.y = Math.max(
-            10, Math.min(model.Height - model.paddleR.height - 10, model.paddleR.y));
-
-    model.ball.x += model.vx;
-    model.ball.y += model.vy;
-
-    if (model.ball.y <= 10 || model.ball.y + model.ball.height >= model.Height - 10) {
-      model.vy = -model.vy;
-    }
-
-    if (model.ball.intersects(model.paddleL)) {
-      model.ball.x = model.paddleL.x + model.paddleL.width;
-      model.vx = Math.abs(model.vx);
-      model.vy += (model.ball.y + model.ball.height / 2 -
-              (model.paddleL.y + model.paddleL.height / 2)) / 8;
-    }
-    if (model.ball.intersects(model.paddleR)) {
-      model.ball.x = model.paddleR.x - model.ball.width;
-      model.vx = -Math.abs(model.vx);
-      model.vy += (model.ball.y + model.ball.height / 2 -
-              (model.paddleR.y + model.paddleR.height / 2)) / 8;
-    }
-
-    int leftLine = 10;
-    int rightLine = model.Width - 10;
-    if (model.ball.x + model.ball.width < leftLine) { // AI scores
-      model.scoreR++;
-      reset();
-      view.repaint();
-      return;
-    } else if (model.ball.x > rightLine) { // You score
-      model.scoreL++;
-      reset();
-      view.repaint();
-      return;
-    }
-
-    view.repaint();
-  }
 }
@@ -0,0 +1,58 @@
+package GamingConsole.pong;
+
+import java.util.Random;
+
+/**
+ * Command-line runner of headless computer-versus-computer Pong matches, for balance testing.
+ * <p>
+ * It plays the simulation step by step without a window or frame pacing until one side reaches
+ * the target score or the simulated time runs out, and prints the score, the average rally
+ * length, how many intercepts each side planned, and how much faster than real time the match
+ * ran. The same seed always plays the same match.
+ * <p>
+ * Every paddle hit speeds the ball up by {@link #SPEEDUP}, unlike in the game, as otherwise the
+ * stronger computer players return every ball and a match never ends.
+ * <p>
+ * Usage: {@code java GamingConsole.pong.PongMatch [left] [right] [points] [seed]}, with the
+ * difficulties given as {@code EASY}, {@code MEDIUM}, {@code HARD} or {@code PERFECT}.
+ */
+public class PongMatch {
+  /** Factor the ball's horizontal speed grows by on every paddle hit. */
+  static final double SPEEDUP = 1.04;
+
+  /**
+   * Runs the match.
+   *
+   * @param args optional difficulties of the left and right players, target score and seed
+   */
+  public static void main(String[] args) {
+    PongAI.Difficulty left = args.length > 0 ? PongAI.Difficulty.valueOf(args[0])
+            : PongAI.Difficulty.HARD;
+    PongAI.Difficulty right = args.length > 1 ? PongAI.Difficulty.valueOf(args[1])
+            : PongAI.Difficulty.MEDIUM;
+    int points = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+    long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+
+    PongModel model = new PongModel(800, 520, seed);
+    model.aiL = new PongAI(left, new Random(seed + 1));
+    model.aiR = new PongAI(right, new Random(seed + 2));
+    model.speedup = SPEEDUP;
+    long maxSteps = (long) points * 600 * 120; // ten simulated minutes per point
+
+    long start = System.nanoTime();
+    long steps = 0;
+    while (model.scoreL < points && model.scoreR < points && steps < maxSteps) {
+      model.step();
+      steps++;
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    double simulated = steps * PongModel.STEP;
+    int played = model.scoreL + model.scoreR;
+
+    System.out.printf("left=%s right=%s score=%d:%d simulated=%.0fs rally=%.1fs"
+                    + " plans=%d:%d time=%.2fs speed=%.0fx%n",
+            left.label, right.label, model.scoreL, model.scoreR, simulated,
+            played > 0 ? simulated / played : simulated, model.aiL.plans(), model.aiR.plans(),
+            seconds, simulated / seconds);
+  }
+}
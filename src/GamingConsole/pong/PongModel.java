@@ -1,6 +1,9 @@
 package GamingConsole.pong;
 
-import java.awt.*;
+import java.util.Arrays;
+import java.util.Random;
+
+import GamingConsole.core.SnapshotBuffer;
 
 /**
  * Represents the model for the Pong game in a Model-View-Controller (MVC) architecture.
@@ -8,17 +11,111 @@ import java.awt.*;
  * This class contains the game's core components, including the game dimensions, the ball,
  * the paddles, and the scores. It is designed to manage the state of the game and provide
  * data to be rendered by the view and manipulated by the controller.
+ * <p>
+ * The simulation advances in fixed steps of {@link #STEP} seconds, whatever the frame rate, so
+ * the game plays at the same speed on every machine. Positions are kept in sub-pixel precision
+ * and speeds are in pixels per second. Every step remembers the positions it started from, so
+ * the view can draw the state between the last two steps that matches the time it paints at.
+ * <p>
+ * The balls live in parallel primitive arrays, indexed by ball. A normal game has one ball; the
+ * multi-ball stress mode fills the arena with hundreds or thousands, which also bounce off each
+ * other. Ball pairs are found through a uniform grid with cells the size of a ball, rebuilt with
+ * a counting sort every step, so each ball is only tested against the few balls in its own and
+ * the neighbouring cells and a step stays close to linear in the number of balls.
+ * <p>
+ * The model is shared between the simulation thread and the Event Dispatch Thread; both only
+ * change it while holding its monitor. Whoever changes it then publishes a snapshot, which the
+ * view draws without taking the monitor, so painting and simulating never wait for each other.
  */
 public class PongModel {
+  /** The length of a simulation step in nanoseconds. */
+  static final long STEP_NANOS = 1_000_000_000L / 120;
+  /** The length of a simulation step in seconds. */
+  static final double STEP = STEP_NANOS / 1e9;
+
+  static final int BALL = 16;
+  static final int WALL = 10;
+  static final double PADDLE_SPEED = 500;
+  static final double SERVE_VX = 330;
+  static final double SERVE_VY = 250;
+  /** Vertical speed added per pixel the ball hits a paddle off its centre. */
+  static final double SPIN = 10;
+  /** The most bounces resolved within one step; any time left after them is dropped. */
+  static final int MAX_CONTACTS = 4;
+  /** The number of balls in the multi-ball stress mode. */
+  static final int STRESS_BALLS = 1000;
+
+  private static final int NONE = 0;
+  private static final int TOP = 1;
+  private static final int BOTTOM = 2;
+  private static final int LEFT_FACE = 3;
+  private static final int RIGHT_FACE = 4;
+  private static final int LEFT_EDGE = 5;
+  private static final int RIGHT_EDGE = 6;
+
   final int Width;
   final int Height;
-  Rectangle ball = new Rectangle();
-  int vx = 4;
-  int vy = 3;
-  Rectangle paddleL = new Rectangle();
-  Rectangle paddleR = new Rectangle();
+  final Paddle paddleL;
+  final Paddle paddleR;
+  final Random random;
+  int balls;
+  double[] ballX;
+  double[] ballY;
+  double[] prevBallX;
+  double[] prevBallY;
+  double[] vx;
+  double[] vy;
   int scoreL = 0;
   int scoreR = 0;
+  /** The direction the player moves the left paddle in: -1 up, 1 down, 0 still. */
+  int inputL = 0;
+  /** The computer player of the left paddle, or null while the player controls it. */
+  PongAI aiL = null;
+  /** The computer player of the right paddle. */
+  PongAI aiR = new PongAI(PongAI.Difficulty.MEDIUM);
+  /**
+   * Factor the ball's horizontal speed grows by on every paddle hit. The game keeps the speed
+   * constant; headless matches raise it so rallies between computer players end.
+   */
+  double speedup = 1;
+  /** The {@link System#nanoTime()} at which the last step's starting positions are shown. */
+  long stepStart;
+  private double hitTime;
+  private boolean hitFace;
+  private final int gridCols;
+  private final int gridRows;
+  private final int[] cellStart;
+  private int[] cellBalls;
+  private int[] ballCell;
+  /** The snapshots drawn by the view, published after every change. */
+  final SnapshotBuffer<PongSnapshot> snapshots = new SnapshotBuffer<>(PongSnapshot::new);
+
+  /**
+   * A paddle, fixed horizontally and moving up and down between the walls.
+   */
+  static final class Paddle {
+    final double x;
+    final int width;
+    final int height;
+    double y;
+    double prevY;
+
+    Paddle(double x, int width, int height) {
+      this.x = x;
+      this.width = width;
+      this.height = height;
+    }
+
+    /**
+     * Moves the paddle vertically, keeping it inside the walls.
+     *
+     * @param dy     the distance to move, negative for up
+     * @param arenaH the height of the arena
+     */
+    void move(double dy, int arenaH) {
+      y = Math.max(WALL, Math.min(arenaH - height - WALL, y + dy));
+    }
+  }
 
   /**
    * Constructs a PongModel to represent the game state with the specified dimensions.
@@ -27,7 +124,415 @@ public class PongModel {
    * @param Height the height of the game arena in pixels
    */
   public PongModel(int Width, int Height) {
+    this(Width, Height, new Random());
+  }
+
+  /**
+   * Constructs a PongModel whose serves are drawn from a seeded generator, for reproducible
+   * headless matches.
+   *
+   * @param Width the width of the game arena in pixels
+   * @param Height the height of the game arena in pixels
+   * @param seed the seed for the serve directions
+   */
+  public PongModel(int Width, int Height, long seed) {
+    this(Width, Height, new Random(seed));
+  }
+
+  private PongModel(int Width, int Height, Random random) {
     this.Width = Width;
     this.Height = Height;
+    this.random = random;
+    this.paddleL = new Paddle(30, 12, 80);
+    this.paddleR = new Paddle(Width - 42, 12, 100);
+    this.gridCols = (Width + BALL - 1) / BALL;
+    this.gridRows = (Height + BALL - 1) / BALL;
+    this.cellStart = new int[gridCols * gridRows + 1];
+    setBalls(1);
+    publish();
+  }
+
+  /**
+   * Changes the number of balls and serves them all.
+   *
+   * @param count the number of balls, 1 for a normal game
+   */
+  void setBalls(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive: " + count);
+    }
+    balls = count;
+    ballX = new double[count];
+    ballY = new double[count];
+    prevBallX = new double[count];
+    prevBallY = new double[count];
+    vx = new double[count];
+    vy = new double[count];
+    cellBalls = new int[count];
+    ballCell = new int[count];
+    serve();
+  }
+
+  /**
+   * Centres the paddles and serves the balls: a single ball starts in the middle heading in a
+   * random diagonal direction, while multiple balls are scattered between the paddles.
+   */
+  void serve() {
+    paddleL.y = Height / 2.0 - paddleL.height / 2.0;
+    paddleR.y = Height / 2.0 - paddleR.height / 2.0;
+    if (balls == 1) {
+      ballX[0] = Width / 2.0 - BALL / 2.0;
+      ballY[0] = Height / 2.0 - BALL / 2.0;
+      vx[0] = random.nextBoolean() ? SERVE_VX : -SERVE_VX;
+      vy[0] = random.nextBoolean() ? SERVE_VY : -SERVE_VY;
+    }
+    else {
+      double left = paddleL.x + paddleL.width + BALL;
+      double right = paddleR.x - 2 * BALL;
+      for (int i = 0; i < balls; i++) {
+        respawn(i, left + random.nextDouble() * (right - left));
+      }
+    }
+    settle();
+  }
+
+  /**
+   * Puts a ball at a random height in a column of the arena, heading left or right at a random
+   * angle.
+   *
+   * @param i the ball
+   * @param x the ball's left edge
+   */
+  private void respawn(int i, double x) {
+    ballX[i] = x;
+    ballY[i] = WALL + random.nextDouble() * (Height - 2 * WALL - BALL);
+    vx[i] = random.nextBoolean() ? SERVE_VX : -SERVE_VX;
+    vy[i] = (2 * random.nextDouble() - 1) * SERVE_VY;
+    prevBallX[i] = ballX[i];
+    prevBallY[i] = ballY[i];
+  }
+
+  /**
+   * Makes the current positions the starting positions of the step, so nothing is drawn moving
+   * from where it was before a jump.
+   */
+  void settle() {
+    System.arraycopy(ballX, 0, prevBallX, 0, balls);
+    System.arraycopy(ballY, 0, prevBallY, 0, balls);
+    paddleL.prevY = paddleL.y;
+    paddleR.prevY = paddleR.y;
+  }
+
+  /**
+   * Advances the game by one fixed step: moves the paddles, by the player's input or by their
+   * computer players, moves the balls, bounces them off the walls, the paddles
+   * and each other, and scores for every ball that leaves the arena. A single ball is served
+   * again from the middle; in the stress mode only the ball that left comes back, on the centre
+   * line.
+   * <p>
+   * Collisions with the walls and paddles are continuous, so however fast a ball gets, it cannot
+   * pass through a paddle between two steps. Balls only bounce off each other when they overlap
+   * at the end of a step.
+   */
+  void step() {
+    settle();
+    paddleL.move(aiL != null ? aiL.move(this, paddleL, 1) : inputL * PADDLE_SPEED * STEP,
+            Height);
+    paddleR.move(aiR.move(this, paddleR, -1), Height);
+
+    for (int i = 0; i < balls; i++) {
+      move(i);
+    }
+    if (balls > 1) {
+      collideBalls();
+    }
+
+    for (int i = 0; i < balls; i++) {
+      boolean scored = true;
+      if (ballX[i] + BALL < WALL) { // AI scores
+        scoreR++;
+      }
+      else if (ballX[i] > Width - WALL) { // You score
+        scoreL++;
+      }
+      else {
+        scored = false;
+      }
+      if (scored && balls == 1) {
+        serve();
+      }
+      else if (scored) {
+        respawn(i, Width / 2.0 - BALL / 2.0);
+      }
+    }
+  }
+
+  /**
+   * Finds the ball that will reach a paddle's face first.
+   *
+   * @param p    the paddle
+   * @param side 1 if the paddle's face points right, -1 if it points left
+   * @return the ball's index, or -1 if no ball in front of the paddle is heading its way
+   */
+  int approaching(Paddle p, int side) {
+    int best = -1;
+    double soonest = Double.POSITIVE_INFINITY;
+    double face = side > 0 ? p.x + p.width : p.x - BALL;
+    for (int i = 0; i < balls; i++) {
+      if (vx[i] * side < 0 && (ballX[i] - face) * side >= 0) {
+        double t = (face - ballX[i]) / vx[i];
+        if (t < soonest) {
+          soonest = t;
+          best = i;
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Moves a ball through the step. Its path is swept against the walls and both paddles, it
+   * travels to the earliest contact, bounces, and spends the rest of the step moving on from
+   * there.
+   *
+   * @param i the ball
+   */
+  private void move(int i) {
+    separate(i, paddleL, 1);
+    separate(i, paddleR, -1);
+    double remaining = 1;
+    for (int contacts = 0; contacts < MAX_CONTACTS && remaining > 0; contacts++) {
+      double dx = vx[i] * STEP * remaining;
+      double dy = vy[i] * STEP * remaining;
+      double first = 1;
+      int hit = NONE;
+      if (dy < 0) {
+        first = Math.min(first, Math.max(0, (WALL - ballY[i]) / dy));
+        hit = first < 1 ? TOP : NONE;
+      }
+      else if (dy > 0) {
+        first = Math.min(first, Math.max(0, (Height - WALL - BALL - ballY[i]) / dy));
+        hit = first < 1 ? BOTTOM : NONE;
+      }
+      if (sweep(i, paddleL, dx, dy) < first) {
+        first = hitTime;
+        hit = hitFace ? LEFT_FACE : LEFT_EDGE;
+      }
+      if (sweep(i, paddleR, dx, dy) < first) {
+        first = hitTime;
+        hit = hitFace ? RIGHT_FACE : RIGHT_EDGE;
+      }
+      ballX[i] += dx * first;
+      ballY[i] += dy * first;
+      remaining *= 1 - first;
+      switch (hit) {
+        case TOP:
+          vy[i] = Math.abs(vy[i]);
+          break;
+        case BOTTOM:
+          vy[i] = -Math.abs(vy[i]);
+          break;
+        case LEFT_FACE:
+          vx[i] = Math.abs(vx[i]) * speedup;
+          vy[i] += spin(i, paddleL);
+          break;
+        case RIGHT_FACE:
+          vx[i] = -Math.abs(vx[i]) * speedup;
+          vy[i] += spin(i, paddleR);
+          break;
+        case LEFT_EDGE:
+        case RIGHT_EDGE:
+          vy[i] = -vy[i];
+          break;
+        default:
+          remaining = 0;
+      }
+    }
+  }
+
+  /**
+   * Bounces overlapping balls off each other. The balls are bucketed by the grid cell of their
+   * centre with a counting sort; as the cells are as wide as a ball, touching balls are always in
+   * the same or adjacent cells, and each pair of cells is visited once. Overlapping balls are
+   * pushed apart along the line between their centres and, if they are closing in, swap their
+   * speeds along that line, as equal masses do in an elastic collision.
+   */
+  private void collideBalls() {
+    Arrays.fill(cellStart, 0);
+    for (int i = 0; i < balls; i++) {
+      int cx = (int) ((ballX[i] + BALL / 2.0) / BALL);
+      int cy = (int) ((ballY[i] + BALL / 2.0) / BALL);
+      int c = Math.max(0, Math.min(gridRows - 1, cy)) * gridCols
+              + Math.max(0, Math.min(gridCols - 1, cx));
+      ballCell[i] = c;
+      cellStart[c + 1]++;
+    }
+    for (int c = 0; c < gridCols * gridRows; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+    for (int i = 0; i < balls; i++) {
+      cellBalls[cellStart[ballCell[i]]++] = i;
+    }
+    for (int c = gridCols * gridRows; c > 0; c--) {
+      cellStart[c] = cellStart[c - 1];
+    }
+    cellStart[0] = 0;
+
+    for (int cy = 0; cy < gridRows; cy++) {
+      for (int cx = 0; cx < gridCols; cx++) {
+        int c = cy * gridCols + cx;
+        for (int a = cellStart[c]; a < cellStart[c + 1]; a++) {
+          int i = cellBalls[a];
+          for (int b = a + 1; b < cellStart[c + 1]; b++) {
+            collide(i, cellBalls[b]);
+          }
+          if (cx + 1 < gridCols) {
+            collideCell(i, c + 1);
+          }
+          if (cy + 1 < gridRows) {
+            if (cx > 0) {
+              collideCell(i, c + gridCols - 1);
+            }
+            collideCell(i, c + gridCols);
+            if (cx + 1 < gridCols) {
+              collideCell(i, c + gridCols + 1);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void collideCell(int i, int c) {
+    for (int b = cellStart[c]; b < cellStart[c + 1]; b++) {
+      collide(i, cellBalls[b]);
+    }
+  }
+
+  private void collide(int i, int j) {
+    double dx = ballX[j] - ballX[i];
+    double dy = ballY[j] - ballY[i];
+    double d2 = dx * dx + dy * dy;
+    if (d2 >= BALL * BALL) {
+      return;
+    }
+    double d = Math.sqrt(d2);
+    double nx = d > 0 ? dx / d : 1;
+    double ny = d > 0 ? dy / d : 0;
+    double push = (BALL - d) / 2;
+    ballX[i] -= nx * push;
+    ballY[i] = Math.max(WALL, Math.min(Height - WALL - BALL, ballY[i] - ny * push));
+    ballX[j] += nx * push;
+    ballY[j] = Math.max(WALL, Math.min(Height - WALL - BALL, ballY[j] + ny * push));
+    double closing = (vx[j] - vx[i]) * nx + (vy[j] - vy[i]) * ny;
+    if (closing < 0) {
+      vx[i] += closing * nx;
+      vy[i] += closing * ny;
+      vx[j] -= closing * nx;
+      vy[j] -= closing * ny;
+    }
+  }
+
+  private boolean hits(int i, Paddle p) {
+    return ballX[i] < p.x + p.width && ballX[i] + BALL > p.x
+            && ballY[i] < p.y + p.height && ballY[i] + BALL > p.y;
+  }
+
+  /**
+   * Pushes the ball out in front of a paddle that has moved into it, sending it away from the
+   * paddle as if it had hit the paddle's face.
+   *
+   * @param i    the ball
+   * @param p    the paddle
+   * @param side 1 if the paddle's face points right, -1 if it points left
+   */
+  private void separate(int i, Paddle p, int side) {
+    if (hits(i, p)) {
+      ballX[i] = side > 0 ? p.x + p.width : p.x - BALL;
+      vx[i] = side * Math.abs(vx[i]);
+      vy[i] += spin(i, p);
+    }
+  }
+
+  private double spin(int i, Paddle p) {
+    return (ballY[i] + BALL / 2.0 - (p.y + p.height / 2.0)) * SPIN;
+  }
+
+  /**
+   * Sweeps a ball's box along a displacement against a paddle's box and finds the first
+   * contact: the latest time the ball enters the paddle's extent on one axis, as long as it has
+   * not yet left the extent on the other. Sets {@link #hitTime} and {@link #hitFace}.
+   *
+   * @param i  the ball
+   * @param p  the paddle, which stands still for the sweep
+   * @param dx the horizontal displacement of the ball
+   * @param dy the vertical displacement of the ball
+   * @return the fraction of the displacement at which the ball touches the paddle, or
+   *         {@link Double#POSITIVE_INFINITY} if it does not touch it along the way
+   */
+  private double sweep(int i, Paddle p, double dx, double dy) {
+    double entryX;
+    double exitX;
+    if (dx > 0) {
+      entryX = (p.x - (ballX[i] + BALL)) / dx;
+      exitX = (p.x + p.width - ballX[i]) / dx;
+    }
+    else if (dx < 0) {
+      entryX = (p.x + p.width - ballX[i]) / dx;
+      exitX = (p.x - (ballX[i] + BALL)) / dx;
+    }
+    else if (ballX[i] < p.x + p.width && ballX[i] + BALL > p.x) {
+      entryX = Double.NEGATIVE_INFINITY;
+      exitX = Double.POSITIVE_INFINITY;
+    }
+    else {
+      return Double.POSITIVE_INFINITY;
+    }
+    double entryY;
+    double exitY;
+    if (dy > 0) {
+      entryY = (p.y - (ballY[i] + BALL)) / dy;
+      exitY = (p.y + p.height - ballY[i]) / dy;
+    }
+    else if (dy < 0) {
+      entryY = (p.y + p.height - ballY[i]) / dy;
+      exitY = (p.y - (ballY[i] + BALL)) / dy;
+    }
+    else if (ballY[i] < p.y + p.height && ballY[i] + BALL > p.y) {
+      entryY = Double.NEGATIVE_INFINITY;
+      exitY = Double.POSITIVE_INFINITY;
+    }
+    else {
+      return Double.POSITIVE_INFINITY;
+    }
+    double entry = Math.max(entryX, entryY);
+    if (entry < 0 || entry > 1 || entry >= Math.min(exitX, exitY)) {
+      return Double.POSITIVE_INFINITY;
+    }
+    hitTime = entry;
+    hitFace = entryX >= entryY;
+    return entry;
+  }
+
+  /**
+   * Publishes a snapshot of the current state for the view. The caller must hold the model's
+   * monitor, which also keeps publishers from overlapping.
+   */
+  void publish() {
+    snapshots.back().capture(this);
+    snapshots.publish();
+  }
+
+  /**
+   * Returns how far a frame drawn at a given time lies between the starting and the final
+   * positions of a step.
+   *
+   * @param stepStart the {@link System#nanoTime()} the step's starting positions belong to
+   * @param now       the {@link System#nanoTime()} of the frame being drawn
+   * @return the interpolation factor between 0 and 1
+   */
+  static double alpha(long stepStart, long now) {
+    double a = (double) (now - stepStart) / STEP_NANOS;
+    return a < 0 ? 0 : a > 1 ? 1 : a;
   }
 }
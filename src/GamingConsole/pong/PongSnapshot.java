@@ -0,0 +1,55 @@
+package GamingConsole.pong;
+
+/**
+ * Copy of what a frame of Pong shows: the positions of the balls and paddles at the start and
+ * the end of the last simulation step, the time that step started, and the HUD values.
+ * <p>
+ * Snapshots are captured by the model while holding its monitor and handed to the view through
+ * a {@link GamingConsole.core.SnapshotBuffer}, so painting never holds up the simulation. Its
+ * arrays grow to the largest number of balls captured and are reused afterwards, so capturing
+ * allocates nothing in steady state.
+ */
+final class PongSnapshot {
+  int balls;
+  double[] ballX = new double[1];
+  double[] ballY = new double[1];
+  double[] prevBallX = new double[1];
+  double[] prevBallY = new double[1];
+  double leftY;
+  double leftPrevY;
+  double rightY;
+  double rightPrevY;
+  long stepStart;
+  int scoreL;
+  int scoreR;
+  PongAI.Difficulty leftAI;
+  PongAI.Difficulty rightAI;
+
+  /**
+   * Copies the state of a game. The caller must hold the model's monitor.
+   *
+   * @param model the game to copy
+   */
+  void capture(PongModel model) {
+    balls = model.balls;
+    if (ballX.length < balls) {
+      ballX = new double[balls];
+      ballY = new double[balls];
+      prevBallX = new double[balls];
+      prevBallY = new double[balls];
+    }
+    System.arraycopy(model.ballX, 0, ballX, 0, balls);
+    System.arraycopy(model.ballY, 0, ballY, 0, balls);
+    System.arraycopy(model.prevBallX, 0, prevBallX, 0, balls);
+    System.arraycopy(model.prevBallY, 0, prevBallY, 0, balls);
+    leftY = model.paddleL.y;
+    leftPrevY = model.paddleL.prevY;
+    rightY = model.paddleR.y;
+    rightPrevY = model.paddleR.prevY;
+    stepStart = model.stepStart;
+    scoreL = model.scoreL;
+    scoreR = model.scoreR;
+    leftAI = model.aiL == null ? null : model.aiL.difficulty;
+    rightAI = model.aiR.difficulty;
+  }
+}
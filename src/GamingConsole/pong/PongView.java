@@ -1,19 +1,60 @@
 package GamingConsole.pong;
 
 import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
 
 import javax.swing.*;
 
+import GamingConsole.core.ActiveCanvas;
+import GamingConsole.core.DirtyRegions;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.StaticLayer;
+import GamingConsole.core.Theme;
+
 /**
  * Represents the view component of the Pong game in a Model-View-Controller (MVC) architecture.
  * <p>
  * Key Responsibilities:
- * - Render the game's main elements (ball, paddles, walls, and center divider).
+ * - Render the game's main elements (ball, paddles, walls, and center divider). The walls and
+ *   the divider are pre-rendered once into a {@link StaticLayer}.
  * - Display the score and control instructions using a Heads-Up Display.
  * - Apply anti-aliasing for smoother graphics rendering.
+ * - Draw the ball and paddles at sub-pixel positions interpolated between the last two
+ *   simulation steps for the moment the frame is painted, so motion is smooth at any frame rate.
+ *   The positions come from the newest {@link PongSnapshot} the model published, taken without
+ *   locking the model, so painting never holds up the simulation thread.
+ * - Repaint only the areas the ball and paddles sweep, plus the HUD when the score changes.
+ *   With many balls the whole court is repainted instead.
+ * - Optionally render actively: an {@link ActiveCanvas} covering the view draws whole frames on
+ *   its own thread at a steady rate, from the same snapshots. Swing then paints nothing of the
+ *   game.
+ * - Paint with the colours and fonts of the shared {@link Theme} and rebuild the score line only
+ *   when the values it shows change, so a frame allocates none of them.
+ * - Time every frame into the game's {@link GameMetrics}.
  */
 public class PongView extends JPanel {
+  private static final String HELP =
+          "Up/Down move   A autoplay   D AI level   M multi-ball   R reset   ESC menu";
+
   private final PongModel model;
+  private final StaticLayer court = new StaticLayer(this::paintCourt);
+  private final Rectangle2D.Double paddleShape = new Rectangle2D.Double();
+  private final Ellipse2D.Double ballShape = new Ellipse2D.Double();
+  private final ActiveCanvas canvas;
+  final GameMetrics metrics;
+  private final DirtyRegions dirty = new DirtyRegions(this);
+  private final int[] lastSpans = new int[4 * 3];
+  private int lastSpanCount;
+  private int lastScoreL = -1;
+  private int lastScoreR = -1;
+  private final Theme theme = Theme.DEFAULT;
+  private String hud;
+  private int hudScoreL = -1;
+  private int hudScoreR = -1;
+  private int hudBalls;
+  private PongAI.Difficulty hudLeft;
+  private PongAI.Difficulty hudRight;
 
   /**
    * Constructs a PongView object, which is responsible for rendering the visual elements
@@ -23,27 +64,219 @@ public class PongView extends JPanel {
    *          game dimensions, ball, paddles, and scores
    */
   public PongView(PongModel model) {
+    this(model, false);
+  }
+
+  /**
+   * Constructs a PongView that is painted by Swing or, in active mode, rendered by its own
+   * thread.
+   *
+   * @param model  the PongModel instance representing the state of the game
+   * @param active whether to render actively onto a canvas instead of painting through Swing
+   */
+  public PongView(PongModel model, boolean active) {
+    this(model, active, new GameMetrics("pong"));
+  }
+
+  /**
+   * Constructs a PongView that records its frame times, and those of its controller, into the
+   * given metrics.
+   *
+   * @param model   the PongModel instance representing the state of the game
+   * @param active  whether to render actively onto a canvas instead of painting through Swing
+   * @param metrics the metrics to record into
+   */
+  public PongView(PongModel model, boolean active, GameMetrics metrics) {
     this.model = model;
-    setPreferredSize(new Dimension(model.Width, model.Height + 40));
-    setBackground(new Color(15, 15, 20));
+    this.metrics = metrics;
+    setPreferredSize(new Dimension(model.Width, model.Height + 52));
+    setBackground(theme.pongBackground);
+    if (active) {
+      canvas = new ActiveCanvas(this::render, "Pong render");
+      canvas.setBackground(theme.pongBackground);
+      setLayout(new BorderLayout());
+      add(canvas);
+    }
+    else {
+      canvas = null;
+    }
+  }
+
+  /**
+   * Starts rendering frames on the render thread in active mode; does nothing otherwise.
+   */
+  void startRendering() {
+    if (canvas != null) {
+      canvas.start();
+    }
+  }
+
+  /**
+   * Stops the render thread in active mode; does nothing otherwise.
+   */
+  void stopRendering() {
+    if (canvas != null) {
+      canvas.stop();
+    }
+  }
+
+  /**
+   * Marks the areas that moving objects may be drawn in by the next frame: for the ball and each
+   * paddle, the box spanning its positions at the start and the end of the last step, stretched
+   * by one more step of travel in case the next step runs before the frame is painted, together
+   * with the boxes marked for the previous frame, which hold what needs erasing. The HUD is
+   * marked when the score has changed. Does nothing in active mode, where every frame is drawn
+   * whole. The caller must hold the model's monitor.
+   */
+  void markMoving() {
+    if (canvas != null) {
+      return;
+    }
+    if (model.scoreL != lastScoreL || model.scoreR != lastScoreR) {
+      lastScoreL = model.scoreL;
+      lastScoreR = model.scoreR;
+      markStatus();
+    }
+    if (model.balls > 1) {
+      dirty.addAll();
+      lastSpanCount = 0;
+      return;
+    }
+    for (int i = 0; i < lastSpanCount; i += 4) {
+      dirty.add(lastSpans[i], lastSpans[i + 1], lastSpans[i + 2], lastSpans[i + 3]);
+    }
+    lastSpanCount = 0;
+    PongModel.Paddle l = model.paddleL;
+    PongModel.Paddle r = model.paddleR;
+    markSpan(model.prevBallX[0], model.prevBallY[0], model.ballX[0], model.ballY[0],
+            PongModel.BALL, PongModel.BALL);
+    markSpan(l.x, l.prevY, l.x, l.y, l.width, l.height);
+    markSpan(r.x, r.prevY, r.x, r.y, r.width, r.height);
+  }
+
+  private void markSpan(double x0, double y0, double x1, double y1, int w, int h) {
+    double x2 = 2 * x1 - x0;
+    double y2 = 2 * y1 - y0;
+    int left = (int) Math.floor(Math.min(x0, Math.min(x1, x2))) - 2;
+    int top = (int) Math.floor(Math.min(y0, Math.min(y1, y2))) - 2;
+    int right = (int) Math.ceil(Math.max(x0, Math.max(x1, x2))) + w + 2;
+    int bottom = (int) Math.ceil(Math.max(y0, Math.max(y1, y2))) + h + 2;
+    dirty.add(left, top, right - left, bottom - top);
+    lastSpans[lastSpanCount++] = left;
+    lastSpans[lastSpanCount++] = top;
+    lastSpans[lastSpanCount++] = right - left;
+    lastSpans[lastSpanCount++] = bottom - top;
+  }
+
+  /**
+   * Marks the HUD below the court as changed.
+   */
+  void markStatus() {
+    if (canvas != null) {
+      return; // the next snapshot shows it
+    }
+    dirty.add(0, model.Height, getWidth(), getHeight() - model.Height);
+  }
+
+  /**
+   * Repaints the areas marked since the last repaint.
+   */
+  void repaintMarked() {
+    dirty.paint();
   }
 
   @Override
   protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
+    if (canvas != null) {
+      return; // the canvas covers the view
+    }
+    long start = System.nanoTime();
     Graphics2D g2 = (Graphics2D) g;
+    PongSnapshot s = model.snapshots.acquire();
+    if (s == null) {
+      court.draw(g2, getWidth(), getHeight());
+    }
+    else {
+      draw(g2, s, getWidth(), getHeight());
+    }
+    Toolkit.getDefaultToolkit().sync(); // flush now rather than when the window system batches it
+    metrics.painted(start);
+  }
+
+  /**
+   * Renders a frame of the active canvas from the newest published snapshot.
+   */
+  private void render(Graphics2D g2, int width, int height) {
+    long start = System.nanoTime();
+    PongSnapshot s = model.snapshots.acquire();
+    if (s == null) {
+      court.draw(g2, width, height);
+      return;
+    }
+    draw(g2, s, width, height);
+    metrics.painted(start);
+  }
+
+  /**
+   * Draws a frame: the court, then the paddles and balls interpolated to the current time, then
+   * the HUD.
+   */
+  private void draw(Graphics2D g2, PongSnapshot s, int width, int height) {
+    court.draw(g2, width, height);
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-    g2.setColor(Color.WHITE);
+    g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+    double a = PongModel.alpha(s.stepStart, System.nanoTime());
+    g2.setColor(theme.pongForeground);
+    PongModel.Paddle l = model.paddleL;
+    PongModel.Paddle r = model.paddleR;
+    paddleShape.setRect(l.x, s.leftPrevY + (s.leftY - s.leftPrevY) * a, l.width, l.height);
+    g2.fill(paddleShape);
+    paddleShape.setRect(r.x, s.rightPrevY + (s.rightY - s.rightPrevY) * a, r.width, r.height);
+    g2.fill(paddleShape);
+    for (int i = 0; i < s.balls; i++) {
+      ballShape.setFrame(s.prevBallX[i] + (s.ballX[i] - s.prevBallX[i]) * a,
+              s.prevBallY[i] + (s.ballY[i] - s.prevBallY[i]) * a, PongModel.BALL, PongModel.BALL);
+      g2.fill(ballShape);
+    }
+    g2.setFont(theme.scoreFont);
+    g2.drawString(hud(s.leftAI, s.scoreL, s.scoreR, s.rightAI, s.balls), 20, model.Height + 24);
+    g2.setFont(theme.smallMonoFont);
+    g2.drawString(HELP, 20, model.Height + 44);
+  }
+
+  /**
+   * Returns the score line, building it again only if one of the values it shows changed since
+   * it was last built.
+   */
+  private String hud(PongAI.Difficulty leftAI, int scoreL, int scoreR, PongAI.Difficulty rightAI,
+                     int balls) {
+    if (hud == null || scoreL != hudScoreL || scoreR != hudScoreR || leftAI != hudLeft
+            || rightAI != hudRight || balls != hudBalls) {
+      hudScoreL = scoreL;
+      hudScoreR = scoreR;
+      hudLeft = leftAI;
+      hudRight = rightAI;
+      hudBalls = balls;
+      String left = leftAI == null ? "You" : "AI " + leftAI.label;
+      hud = String.format("%s %d  :  %d AI %s", left, scoreL, scoreR, rightAI.label);
+      if (balls > 1) {
+        hud += "   " + balls + " balls";
+      }
+    }
+    return hud;
+  }
+
+  /**
+   * Paints the parts of the court that never change: the background, the walls and the centre
+   * divider.
+   */
+  private void paintCourt(Graphics2D g2, int width, int height) {
+    g2.setColor(getBackground());
+    g2.fillRect(0, 0, width, height);
+    g2.setColor(theme.pongForeground);
     for (int y = 0; y < model.Height; y += 20) {
       g2.drawLine(model.Width / 2, y, model.Width / 2, y + 10);
     }
     g2.drawRect(10, 10, model.Width - 20, model.Height - 20);
-    g2.fill(model.paddleL);
-    g2.fill(model.paddleR);
-    g2.fillOval(model.ball.x, model.ball.y, model.ball.width, model.ball.height);
-    g2.setFont(new Font("Monospaced", Font.BOLD, 24));
-    String hud = String.format("You %d  :  %d AI   (Up/Down move, R reset, ESC Menu)",
-            model.scoreL, model.scoreR);
-    g2.drawString(hud, 20, model.Height + 30);
   }
 }
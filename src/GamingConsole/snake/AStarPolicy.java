@@ -0,0 +1,358 @@
+package GamingConsole.snake;
+
+import java.util.Arrays;
+
+import GamingConsole.snake.SnakeEngine.Direction;
+
+/**
+ * Policy that heads for the food along a shortest path, taking shortcuts off a
+ * {@link HamiltonianCycle} only while they are provably harmless, and otherwise following the
+ * cycle.
+ * <p>
+ * Features:
+ * - A* from the head to the food over the wrapping board, with the wrapped Manhattan distance
+ *   as heuristic. Body segments count as obstacles only until the tail has moved past them: the
+ *   segment {@code i} cells behind the head is passable from step {@code length - i + 1} on.
+ * - A safety check on every shortcut: the body is laid along the path, grown by the food, and a
+ *   breadth-first search from the new head must reach a cell the tail will have left by then.
+ *   A path that passes the check is kept and followed on later steps without searching again
+ *   until the food moves or the snake leaves the path.
+ * - The body is kept in cycle order from tail to head. The first step of a path is taken only if
+ *   it moves forward along the cycle without passing the food or the tail, leaves a margin of
+ *   free cells ahead of the head larger than the free cells skipped so far, and the snake covers
+ *   less than half the board. Otherwise the head moves to the next cell on the cycle, which is
+ *   always free while the body is in cycle order, so the policy never stalls and fills the board
+ *   the way {@link HamiltonianPolicy} does, only with shorter detours to the food.
+ * - All working memory (scores, parents, the open-list heap, the search queue and the virtual
+ *   body) is allocated once per board size and reused; stale entries are told apart by stamps
+ *   instead of clearing the arrays, so planning allocates nothing and stays in the microseconds
+ *   on large boards.
+ */
+public class AStarPolicy implements SnakePolicy {
+  private static final Direction[] DIRECTIONS = Direction.values();
+  private static final int BUFFER = 2;
+
+  private HamiltonianCycle cycle;
+  private int cells;
+  private long lastSteps;
+  private boolean forward;
+  private int planLength;
+  private int planIndex;
+  private int planFood;
+  private int stamp;
+  private int bodyStamp;
+  private int[] bodyMark;
+  private int[] freeAt;
+  private int[] virtualMark;
+  private int[] virtualFreeAt;
+  private int[] searchMark;
+  private int[] closedMark;
+  private int[] g;
+  private int[] parent;
+  private int[] path;
+  private int[] queue;
+  private int[] depth;
+  private long[] heap;
+  private int heapSize;
+
+  @Override
+  public Direction choose(SnakeEngine engine) {
+    prepare(engine);
+    long now = engine.steps();
+    if (now != lastSteps + 1) {
+      forward = isForward(engine); // a new game, or the policy took over mid-game
+      planLength = 0;
+    }
+    lastSteps = now;
+
+    int length = engine.length();
+    int head = engine.segment(0);
+    int tail = engine.segment(length - 1);
+    int toTail = cycle.distance(head, tail, forward);
+    int ahead = toTail - 1;
+    int gaps = engine.freeCells() - ahead;
+
+    int food = engine.food();
+    if (2 * length < cells && canShortcut(engine, head, toTail, ahead, gaps)) {
+      boolean planned = planIndex > 0 && planIndex < planLength && planFood == food
+              && path[planIndex - 1] == head && isFree(engine, path[planIndex]);
+      if (!planned) {
+        bodyStamp = nextStamp();
+        for (int i = 0; i < length; i++) {
+          int c = engine.segment(i);
+          bodyMark[c] = bodyStamp;
+          freeAt[c] = length - i + 1;
+        }
+        planLength = findPath(engine, head, food);
+        planIndex = 0;
+        planFood = food;
+      }
+      if (planIndex < planLength) {
+        int step = path[planIndex];
+        int skip = cycle.distance(head, step, forward);
+        if (skip == 1 || skip > 1 && skip <= cycle.distance(head, food, forward)
+                && ahead - skip > gaps + skip - 1 + BUFFER
+                && (planned || isSafe(engine, planLength, true))) {
+          planIndex++;
+          return engine.directionTo(head, step);
+        }
+      }
+    }
+    planLength = 0;
+
+    int next = forward ? cycle.next[head] : cycle.prev[head];
+    if (isFree(engine, next)) {
+      return engine.directionTo(head, next);
+    }
+    for (Direction d : DIRECTIONS) {
+      if (isFree(engine, engine.neighbor(head, d))) {
+        return d;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String name() {
+    return "A*";
+  }
+
+  /**
+   * Checks whether any neighbour of the head other than the next cell on the cycle would be an
+   * acceptable shortcut, so the path search can be skipped when it could only confirm the cycle.
+   *
+   * @param engine the game being planned
+   * @param head   the head's cell
+   * @param toTail the distance along the cycle from the head to the tail
+   * @param ahead  the number of free cells between the head and the tail along the cycle
+   * @param gaps   the number of free cells the body has skipped
+   * @return true if a shortcut is possible
+   */
+  private boolean canShortcut(SnakeEngine engine, int head, int toTail, int ahead, int gaps) {
+    int toFood = cycle.distance(head, engine.food(), forward);
+    for (Direction d : DIRECTIONS) {
+      int skip = cycle.distance(head, engine.neighbor(head, d), forward);
+      if (skip > 1 && skip <= toFood && skip < toTail && ahead - skip > gaps + skip - 1 + BUFFER) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Picks the direction to walk the cycle in: the one along which more of the body already lies.
+   *
+   * @param engine the game being planned
+   * @return true to walk along {@link HamiltonianCycle#next}
+   */
+  private boolean isForward(SnakeEngine engine) {
+    int forward = 0;
+    for (int i = 1; i < engine.length(); i++) {
+      int c = engine.segment(i);
+      int ahead = engine.segment(i - 1);
+      if (cycle.next[c] == ahead) {
+        forward++;
+      }
+      else if (cycle.prev[c] == ahead) {
+        forward--;
+      }
+    }
+    return forward >= 0;
+  }
+
+  /**
+   * Allocates the working buffers and the fallback cycle for the engine's board size, and clears
+   * the stamp arrays before the stamps could overflow.
+   *
+   * @param engine the game about to be planned
+   */
+  private void prepare(SnakeEngine engine) {
+    if (cycle != null && cycle.fits(engine)) {
+      if (stamp > Integer.MAX_VALUE - 64) {
+        Arrays.fill(bodyMark, 0);
+        Arrays.fill(virtualMark, 0);
+        Arrays.fill(searchMark, 0);
+        Arrays.fill(closedMark, 0);
+        stamp = 0;
+      }
+      return;
+    }
+    cycle = new HamiltonianCycle(engine.cols(), engine.rows());
+    cells = engine.cols() * engine.rows();
+    bodyMark = new int[cells];
+    freeAt = new int[cells];
+    virtualMark = new int[cells];
+    virtualFreeAt = new int[cells];
+    searchMark = new int[cells];
+    closedMark = new int[cells];
+    g = new int[cells];
+    parent = new int[cells];
+    path = new int[cells];
+    queue = new int[cells];
+    depth = new int[cells];
+    heap = new long[4 * cells + 1];
+    stamp = 0;
+  }
+
+  /**
+   * Returns a stamp value not used since the stamp arrays were last cleared.
+   *
+   * @return the new stamp
+   */
+  private int nextStamp() {
+    return ++stamp;
+  }
+
+  private static boolean isFree(SnakeEngine engine, int cell) {
+    return !engine.isOccupied(cell % engine.cols(), cell / engine.cols());
+  }
+
+  /**
+   * Checks whether the head may enter a cell on a given step of a plan.
+   *
+   * @param cell the cell index
+   * @param step the number of steps from now at which the head enters the cell, from 1
+   * @return true if the cell is free or the tail will have left it by then
+   */
+  private boolean isOpen(int cell, int step) {
+    return bodyMark[cell] != bodyStamp || step >= freeAt[cell];
+  }
+
+  /**
+   * Runs A* from the head to the food.
+   *
+   * @param engine the game being planned
+   * @param head   the head's cell
+   * @param food   the food's cell
+   * @return the path length, with the path's cells stored in {@code path}, or 0 if the food
+   *         cannot be reached
+   */
+  private int findPath(SnakeEngine engine, int head, int food) {
+    int search = nextStamp();
+    heapSize = 0;
+    g[head] = 0;
+    searchMark[head] = search;
+    push(distance(engine, head, food), head);
+    while (heapSize > 0) {
+      long top = pop();
+      int c = (int) top;
+      if (closedMark[c] == search) {
+        continue;
+      }
+      closedMark[c] = search;
+      if (c == food) {
+        int steps = g[c];
+        for (int i = steps - 1; i >= 0; i--) {
+          path[i] = c;
+          c = parent[c];
+        }
+        return steps;
+      }
+      int next = g[c] + 1;
+      for (Direction d : DIRECTIONS) {
+        int n = engine.neighbor(c, d);
+        if (closedMark[n] == search || !isOpen(n, next)) {
+          continue;
+        }
+        if (searchMark[n] == search && g[n] <= next) {
+          continue;
+        }
+        searchMark[n] = search;
+        g[n] = next;
+        parent[n] = c;
+        push(next + distance(engine, n, food), n);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Lays the body along the first steps of {@code path} and checks that the new head can still
+   * reach a cell the tail will have left when the head gets there.
+   *
+   * @param engine the game being planned
+   * @param steps  the number of path cells to follow
+   * @param grows  whether the last path cell holds the food
+   * @return true if the snake can keep following its tail after the move
+   */
+  private boolean isSafe(SnakeEngine engine, int steps, boolean grows) {
+    int length = engine.length() + (grows ? 1 : 0);
+    if (length >= cells) {
+      return true;
+    }
+    int mark = nextStamp();
+    for (int i = 0; i < length; i++) {
+      int c = i < steps ? path[steps - 1 - i] : engine.segment(i - steps);
+      virtualMark[c] = mark;
+      virtualFreeAt[c] = length - i + 1;
+    }
+    int start = path[steps - 1];
+    int search = nextStamp();
+    searchMark[start] = search;
+    queue[0] = start;
+    depth[0] = 0;
+    int read = 0;
+    int write = 1;
+    while (read < write) {
+      int c = queue[read];
+      int next = depth[read++] + 1;
+      for (Direction d : DIRECTIONS) {
+        int n = engine.neighbor(c, d);
+        if (virtualMark[n] == mark) {
+          if (n != start && next >= virtualFreeAt[n]) {
+            return true;
+          }
+          continue;
+        }
+        if (searchMark[n] != search) {
+          searchMark[n] = search;
+          queue[write] = n;
+          depth[write++] = next;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static int distance(SnakeEngine engine, int a, int b) {
+    int cols = engine.cols();
+    int rows = engine.rows();
+    int dx = Math.abs(a % cols - b % cols);
+    int dy = Math.abs(a / cols - b / cols);
+    return Math.min(dx, cols - dx) + Math.min(dy, rows - dy);
+  }
+
+  private void push(int priority, int cell) {
+    long entry = (long) priority << 32 | cell;
+    int i = heapSize++;
+    while (i > 0) {
+      int up = (i - 1) >>> 1;
+      if (heap[up] <= entry) {
+        break;
+      }
+      heap[i] = heap[up];
+      i = up;
+    }
+    heap[i] = entry;
+  }
+
+  private long pop() {
+    long top = heap[0];
+    long last = heap[--heapSize];
+    int i = 0;
+    int half = heapSize >>> 1;
+    while (i < half) {
+      int child = 2 * i + 1;
+      if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+        child++;
+      }
+      if (last <= heap[child]) {
+        break;
+      }
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = last;
+    return top;
+  }
+}
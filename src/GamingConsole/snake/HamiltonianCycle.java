@@ -0,0 +1,76 @@
+package GamingConsole.snake;
+
+/**
+ * A closed path that visits every cell of a wrapping Snake board exactly once.
+ * <p>
+ * Column 0 is the return lane, walked upwards. The other columns are swept row by row in a
+ * zig-zag: row 0 from left to right, row 1 from right to left, and so on. The last row ends next
+ * to column 0, directly when the number of rows is even and through the wrapping right edge when
+ * it is odd, so a cycle exists for every board of at least two columns.
+ */
+final class HamiltonianCycle {
+  final int cols;
+  final int rows;
+  /** The cell that follows each cell on the cycle. */
+  final int[] next;
+  /** The cell that precedes each cell on the cycle. */
+  final int[] prev;
+  /** The position of each cell along the cycle, counted from the cell after (0, 0). */
+  final int[] rank;
+
+  /**
+   * Builds the cycle for a board.
+   *
+   * @param cols the number of columns, at least 2
+   * @param rows the number of rows
+   */
+  HamiltonianCycle(int cols, int rows) {
+    this.cols = cols;
+    this.rows = rows;
+    int cells = cols * rows;
+    int[] order = new int[cells];
+    int n = 0;
+    for (int y = 0; y < rows; y++) {
+      for (int i = 1; i < cols; i++) {
+        int x = y % 2 == 0 ? i : cols - i;
+        order[n++] = y * cols + x;
+      }
+    }
+    for (int y = rows - 1; y >= 0; y--) {
+      order[n++] = y * cols;
+    }
+    this.next = new int[cells];
+    this.prev = new int[cells];
+    this.rank = new int[cells];
+    for (int i = 0; i < cells; i++) {
+      int a = order[i];
+      rank[a] = i;
+      int b = order[(i + 1) % cells];
+      next[a] = b;
+      prev[b] = a;
+    }
+  }
+
+  /**
+   * Returns how many steps along the cycle lead from one cell to another.
+   *
+   * @param from    the cell to start at
+   * @param to      the cell to reach
+   * @param forward true to walk along {@link #next}, false to walk along {@link #prev}
+   * @return the number of steps, from 0 to one less than the number of cells
+   */
+  int distance(int from, int to, boolean forward) {
+    int d = forward ? rank[to] - rank[from] : rank[from] - rank[to];
+    return d < 0 ? d + rank.length : d;
+  }
+
+  /**
+   * Checks whether the cycle was built for a board.
+   *
+   * @param engine the game to check against
+   * @return true if the board dimensions match
+   */
+  boolean fits(SnakeEngine engine) {
+    return engine.cols() == cols && engine.rows() == rows;
+  }
+}
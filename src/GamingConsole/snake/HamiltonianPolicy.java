@@ -0,0 +1,32 @@
+package GamingConsole.snake;
+
+import GamingConsole.snake.SnakeEngine.Direction;
+
+/**
+ * Policy that follows a {@link HamiltonianCycle} around the whole board.
+ * <p>
+ * While the body lies along the cycle the head always moves into the cell the tail has just left
+ * or into a free cell ahead, so the snake can never collide and eats every food on the way until
+ * it fills the board. The cycle is walked in whichever direction the body already points along
+ * it; the starting position lies on the cycle on boards at least 10 columns wide, so from there
+ * the policy is guaranteed to win. It is slow, taking up to a full lap for every food.
+ */
+public class HamiltonianPolicy implements SnakePolicy {
+  private HamiltonianCycle cycle;
+
+  @Override
+  public Direction choose(SnakeEngine engine) {
+    if (cycle == null || !cycle.fits(engine)) {
+      cycle = new HamiltonianCycle(engine.cols(), engine.rows());
+    }
+    int head = engine.segment(0);
+    int neck = engine.segment(1);
+    int target = cycle.prev[neck] == head ? cycle.prev[head] : cycle.next[head];
+    return engine.directionTo(head, target);
+  }
+
+  @Override
+  public String name() {
+    return "Hamiltonian";
+  }
+}
@@ -1,26 +1,32 @@
 package GamingConsole.snake;
 
-import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.*;
 
+import GamingConsole.core.GameController;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.snake.SnakeEngine.Direction;
+
 /**
  * Controls the game loop, user input, and interactions between the model and view
  * in a Snake game.
  * <p>
- * The SnakeController class is responsible for managing the logic of the Snake game,
- * including handling user input, updating the model, and rendering the view. It ensures
- * the game progresses at a steady pace and handles scenarios such as collisions, food spawning,
- * and GamingConsole.Snake growth.
+ * The SnakeController class adapts the headless {@link SnakeEngine} to Swing: it turns key
+ * presses into direction input, steps the engine on a {@link Timer} so the game progresses at a
+ * steady pace, has the model publish a snapshot after every change and asks the view to repaint.
+ * Collisions, food spawning and GamingConsole.Snake growth are handled by the engine. Tick
+ * times, late ticks and turns are recorded into the view's {@link GameMetrics}.
  */
-public class SnakeController {
+public class SnakeController implements GameController {
   private final SnakeModel model;
   private final SnakeView view;
   private final Runnable onBack;
   private final Timer timer;
+  private final GameMetrics metrics;
+  private final SnakePolicy[] autopilots = {new AStarPolicy(), new HamiltonianPolicy()};
   private boolean turnedThisTick = false;
 
   /**
@@ -36,10 +42,32 @@ public class SnakeController {
     this.model = model;
     this.view = view;
     this.onBack = onBack;
+    this.metrics = view.metrics;
     this.timer = new Timer(90, e -> tick());
     installKeyBindings();
     reset();
+  }
+
+  @Override
+  public void activate() {
+    reset();
+    metrics.startFrames();
+    timer.start();
+    view.startRendering();
+  }
+
+  @Override
+  public void suspend() {
+    timer.stop();
+    view.stopRendering();
+  }
+
+  @Override
+  public void resume() {
+    turnedThisTick = false;
+    metrics.startFrames();
     timer.start();
+    view.startRendering();
   }
 
   /**
@@ -52,82 +80,54 @@ public class SnakeController {
    * reflecting these updates.
    */
   public void reset() {
-    model.snake.clear();
-    int cx = model.cols / 2, cy = model.rows / 2;
-    for (int i = 0; i < 5; i++) {
-      model.snake.addLast(new Point(cx - i, cy));
-    }
-    model.dx = 1;
-    model.dy = 0;
-    model.alive = true;
-    spawnFood();
-    view.repaint();
-  }
-
-  /**
-   * Spawns a new food item for the Snake game at a random position on the grid,
-   * ensuring that the position does not overlap with the current GamingConsole.snake's body.
-   * <p>
-   * This method generates a random position within the bounds of the game grid
-   * (determined by the number of columns and rows in the SnakeModel instance).
-   * If the generated position is already occupied by the GamingConsole.snake, the process is
-   * repeated until a valid position is found. The food position is then updated
-   */
-  private void spawnFood() {
-    Random r = new Random();
-    do {
-      model.food = new Point(r.nextInt(model.cols), r.nextInt(model.rows));
-    }
-    while (model.snake.contains(model.food));
+    model.engine.reset();
+    model.publish();
+    view.markAll();
+    view.repaintMarked();
   }
 
   /**
    * Updates the game state for each tick of the game loop.
    * <p>
-   * This method is responsible for progressing the Snake game logic. It performs
-   * various tasks, including checking if the GamingConsole.Snake is alive, updating the
-   * GamingConsole.Snake's
-   * position, handling collisions (with itself or boundaries via wrapping), and
-   * checking for food consumption. After processing these events, it triggers the
-   * view to repaint the board to reflect the updated state.
+   * The engine moves the GamingConsole.Snake, handles collisions (with itself or boundaries via
+   * wrapping) and food consumption without allocating; a snapshot of the result is published
+   * and the view is then asked to repaint only what the step changed: the old and new head,
+   * the cell the tail left, the old and new food and, when the length or the game state
+   * changed, the status line. The tick's duration and any ticks that came late are recorded
+   * into the metrics.
    */
   private void tick() {
-    if (!model.alive) {
-      view.repaint();
-      return;
-    }
+    long start = System.nanoTime();
+    metrics.frame(start, TimeUnit.MILLISECONDS.toNanos(timer.getDelay()));
     turnedThisTick = false;
-    Point head = model.snake.peekFirst();
-    Point next = new Point(head.x + model.dx, head.y + model.dy);
-    if (next.x < 0) {
-      next.x = model.cols - 1;
-    }
-
-    if (next.x >= model.cols) {
-      next.x = 0;
+    SnakeEngine engine = model.engine;
+    if (!engine.alive() || engine.won()) {
+      return;
     }
-
-    if (next.y < 0) {
-      next.y = model.rows - 1;
+    int oldHead = engine.segment(0);
+    int oldTail = engine.segment(engine.length() - 1);
+    int oldFood = engine.food();
+    int oldLength = engine.length();
+    if (model.autopilot != null) {
+      engine.step(model.autopilot.choose(engine));
     }
-
-    if (next.y >= model.rows) {
-      next.y = 0;
+    else {
+      engine.step();
     }
-
-    if (model.snake.contains(next)) {
-      model.alive = false;
-      view.repaint();
-      return;
+    model.publish();
+    metrics.published();
+    metrics.ticked(start);
+    view.markCell(oldHead);
+    view.markCell(engine.segment(0));
+    view.markCell(oldTail);
+    if (engine.food() != oldFood || engine.won()) {
+      view.markCell(oldFood);
+      view.markCell(engine.food());
     }
-    model.snake.addFirst(next);
-
-    if (next.equals(model.food)) {
-      spawnFood();
-    } else {
-      model.snake.removeLast();
+    if (engine.length() != oldLength || !engine.alive() || engine.won()) {
+      view.markStatus();
     }
-    view.repaint();
+    view.repaintMarked();
   }
 
   /**
@@ -137,6 +137,7 @@ public class SnakeController {
    * in the game. It includes the following functionalities:
    * - Pressing the Escape key triggers the `onBack` Runnable to handle exiting or returning.
    * - Pressing the 'R' key resets the game state by invoking the `reset` method.
+   * - Pressing the 'P' key switches the autopilot between off, A* and Hamiltonian cycle.
    * - Configures directional movement controls for the GamingConsole.Snake, responding to both
    * arrow keys and WASD keys. These bindings update the GamingConsole.Snake's movement
    * direction based on key inputs.
@@ -159,14 +160,38 @@ public class SnakeController {
       }
     });
 
-    bindDir(im, am, KeyEvent.VK_LEFT, -1, 0);
-    bindDir(im, am, KeyEvent.VK_A, -1, 0);
-    bindDir(im, am, KeyEvent.VK_RIGHT, 1, 0);
-    bindDir(im, am, KeyEvent.VK_D, 1, 0);
-    bindDir(im, am, KeyEvent.VK_UP, 0, -1);
-    bindDir(im, am, KeyEvent.VK_W, 0, -1);
-    bindDir(im, am, KeyEvent.VK_DOWN, 0, 1);
-    bindDir(im, am, KeyEvent.VK_S, 0, 1);
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_P, 0), "autopilot");
+    am.put("autopilot", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        model.autopilot = nextAutopilot();
+        model.publish();
+        view.markStatus();
+        view.repaintMarked();
+      }
+    });
+
+    bindDir(im, am, KeyEvent.VK_LEFT, Direction.LEFT);
+    bindDir(im, am, KeyEvent.VK_A, Direction.LEFT);
+    bindDir(im, am, KeyEvent.VK_RIGHT, Direction.RIGHT);
+    bindDir(im, am, KeyEvent.VK_D, Direction.RIGHT);
+    bindDir(im, am, KeyEvent.VK_UP, Direction.UP);
+    bindDir(im, am, KeyEvent.VK_W, Direction.UP);
+    bindDir(im, am, KeyEvent.VK_DOWN, Direction.DOWN);
+    bindDir(im, am, KeyEvent.VK_S, Direction.DOWN);
+  }
+
+  /**
+   * Returns the autopilot that follows the current one, or null after the last one.
+   *
+   * @return the next policy to steer with
+   */
+  private SnakePolicy nextAutopilot() {
+    for (int i = 0; i < autopilots.length; i++) {
+      if (autopilots[i] == model.autopilot) {
+        return i + 1 < autopilots.length ? autopilots[i + 1] : null;
+      }
+    }
+    return autopilots[0];
   }
 
   /**
@@ -175,24 +200,19 @@ public class SnakeController {
    * @param im  the InputMap to associate key strokes with action keys
    * @param am  the ActionMap to map action keys to functionality
    * @param key the key code of the directional input being bound
-   * @param ddx the change in the horizontal direction
-   * @param ddy the change in the vertical direction
+   * @param dir the direction the key turns the GamingConsole.Snake to
    */
-  private void bindDir(InputMap im, ActionMap am, int key, int ddx, int ddy) {
+  private void bindDir(InputMap im, ActionMap am, int key, Direction dir) {
     im.put(KeyStroke.getKeyStroke(key, 0), "dir" + key);
     am.put("dir" + key, new AbstractAction() {
       @Override
       public void actionPerformed(ActionEvent e) {
-        if (turnedThisTick) {
+        if (turnedThisTick || model.autopilot != null) {
           return;
         }
-        if (ddx == -model.dx && ddy == -model.dy) {
-          return; // no instant reverse
-        }
-        if (ddx != 0 || ddy != 0) {
-          model.dx = ddx;
-          model.dy = ddy;
+        if (dir != model.engine.direction() && model.engine.turn(dir)) {
           turnedThisTick = true;
+          metrics.input();
         }
       }
     });
@@ -0,0 +1,416 @@
+package GamingConsole.snake;
+
+import java.util.Random;
+
+/**
+ * Headless rules engine for the Snake game.
+ * <p>
+ * The engine owns the complete game state and has no dependency on AWT or Swing, so games can
+ * be simulated as fast as the CPU allows on machines without a display: for testing, for
+ * training agents and for validating recorded replays. All randomness comes from a seeded
+ * {@link Random}, so the same seed and the same inputs always produce the same game.
+ * <p>
+ * Cells are addressed by their packed index {@code y * cols + x}. The body is a ring buffer of
+ * cell indices with room for every cell of the board, so moving the snake writes one slot at the
+ * head and frees one at the tail without allocating. Alongside it the engine keeps an index of
+ * the free cells: an array of the free cells, compacted with swap-remove, and a map from each
+ * cell to its slot in that array (-1 for cells covered by the body). Checking whether a cell is
+ * occupied and picking a random free cell for the food are both O(1) regardless of the snake's
+ * length, and a step never allocates.
+ */
+public class SnakeEngine {
+  /**
+   * A direction the snake can move in.
+   */
+  public enum Direction {
+    UP(0, -1),
+    DOWN(0, 1),
+    LEFT(-1, 0),
+    RIGHT(1, 0);
+
+    final int dx;
+    final int dy;
+
+    Direction(int dx, int dy) {
+      this.dx = dx;
+      this.dy = dy;
+    }
+
+    /**
+     * Returns the direction pointing the other way.
+     *
+     * @return the opposite direction
+     */
+    public Direction opposite() {
+      switch (this) {
+        case UP:
+          return DOWN;
+        case DOWN:
+          return UP;
+        case LEFT:
+          return RIGHT;
+        default:
+          return LEFT;
+      }
+    }
+  }
+
+  /** The number of segments the snake starts with. */
+  public static final int START_LENGTH = 5;
+
+  private final int cols;
+  private final int rows;
+  private final Random random;
+  private final int[] body;
+  private final int[] free;
+  private final int[] slot;
+  private int head;
+  private int length;
+  private int freeCount;
+  private int food;
+  private Direction direction;
+  private boolean alive;
+  private boolean won;
+  private long steps;
+
+  /**
+   * Constructs a SnakeEngine and starts the first game.
+   *
+   * @param cols the number of columns in the game grid
+   * @param rows the number of rows in the game grid
+   * @param seed the seed for the food positions
+   * @throws IllegalArgumentException if the board cannot hold the starting snake
+   */
+  public SnakeEngine(int cols, int rows, long seed) {
+    if (cols < 2 * START_LENGTH - 2 || rows < 1) {
+      throw new IllegalArgumentException("Board too small: " + cols + "x" + rows);
+    }
+    this.cols = cols;
+    this.rows = rows;
+    this.random = new Random(seed);
+    this.body = new int[cols * rows];
+    this.free = new int[cols * rows];
+    this.slot = new int[cols * rows];
+    reset();
+  }
+
+  /**
+   * Starts a new game, continuing the current random sequence.
+   * <p>
+   * The snake is placed in the middle of the board heading right and the first food is spawned.
+   */
+  public void reset() {
+    clearSnake();
+    int cx = cols / 2, cy = rows / 2;
+    for (int i = 0; i < START_LENGTH; i++) {
+      addTail(cy * cols + cx - i);
+    }
+    direction = Direction.RIGHT;
+    alive = true;
+    won = false;
+    steps = 0;
+    spawnFood();
+  }
+
+  /**
+   * Starts a new game with a new seed.
+   *
+   * @param seed the seed for the food positions
+   */
+  public void reset(long seed) {
+    random.setSeed(seed);
+    reset();
+  }
+
+  /**
+   * Continues the game of another engine on a board of the same size: copies the body, the food,
+   * the direction and the state of the game without allocating. Food spawned afterwards still
+   * comes from this engine's own random sequence.
+   *
+   * @param other the engine whose game to continue
+   * @throws IllegalArgumentException if the boards differ in size
+   */
+  public void copyFrom(SnakeEngine other) {
+    if (other.cols != cols || other.rows != rows) {
+      throw new IllegalArgumentException("Board size differs: " + other.cols + "x" + other.rows);
+    }
+    System.arraycopy(other.body, 0, body, 0, body.length);
+    System.arraycopy(other.free, 0, free, 0, free.length);
+    System.arraycopy(other.slot, 0, slot, 0, slot.length);
+    head = other.head;
+    length = other.length;
+    freeCount = other.freeCount;
+    food = other.food;
+    direction = other.direction;
+    alive = other.alive;
+    won = other.won;
+    steps = other.steps;
+  }
+
+  /**
+   * Changes the direction the snake will move in on the next step. Turning straight back into
+   * the body is not allowed.
+   *
+   * @param d the new direction
+   * @return false if the turn was a reversal and was ignored
+   */
+  public boolean turn(Direction d) {
+    if (d == direction.opposite()) {
+      return false;
+    }
+    direction = d;
+    return true;
+  }
+
+  /**
+   * Turns and then advances the game by one step.
+   *
+   * @param input the direction to turn to, or null to keep going straight
+   * @return true if the game is still running after the step
+   */
+  public boolean step(Direction input) {
+    if (input != null) {
+      turn(input);
+    }
+    return step();
+  }
+
+  /**
+   * Advances the game by one step: moves the head one cell in the current direction, wrapping
+   * around the board edges, ends the game if the head runs into the body, and grows the snake
+   * and spawns new food if the head reaches the food. Does nothing once the game is over.
+   *
+   * @return true if the game is still running after the step
+   */
+  public boolean step() {
+    if (!alive || won) {
+      return false;
+    }
+    steps++;
+    int next = neighbor(body[head], direction);
+    if (slot[next] < 0) {
+      alive = false;
+      return false;
+    }
+    addHead(next);
+    if (next == food) {
+      spawnFood();
+    }
+    else {
+      removeTail();
+    }
+    return !won;
+  }
+
+  /**
+   * Plays a sequence of inputs, one per step, until the step count is reached or the game ends.
+   *
+   * @param inputs the input of each step, null entries keeping the current direction; steps past
+   *               the end of the array keep going straight
+   * @param count  the number of steps to play
+   * @return the number of steps played
+   */
+  public int run(Direction[] inputs, int count) {
+    int played = 0;
+    while (played < count && alive && !won) {
+      step(played < inputs.length ? inputs[played] : null);
+      played++;
+    }
+    return played;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of segments in the snake's body.
+   *
+   * @return the length of the snake
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the cell of a body segment.
+   *
+   * @param i the segment number, 0 being the head
+   * @return the cell index {@code y * cols + x}
+   */
+  public int segment(int i) {
+    int p = head + i;
+    return body[p >= body.length ? p - body.length : p];
+  }
+
+  /**
+   * Returns the cell of the food.
+   *
+   * @return the cell index {@code y * cols + x}
+   */
+  public int food() {
+    return food;
+  }
+
+  public Direction direction() {
+    return direction;
+  }
+
+  public boolean alive() {
+    return alive;
+  }
+
+  /**
+   * Checks whether the snake has filled the whole board.
+   *
+   * @return true if the game was won
+   */
+  public boolean won() {
+    return won;
+  }
+
+  /**
+   * Returns the number of steps played in the current game.
+   *
+   * @return the step count
+   */
+  public long steps() {
+    return steps;
+  }
+
+  /**
+   * Checks whether a cell is covered by the snake's body.
+   *
+   * @param x the column of the cell
+   * @param y the row of the cell
+   * @return true if a body segment occupies the cell
+   */
+  public boolean isOccupied(int x, int y) {
+    return slot[y * cols + x] < 0;
+  }
+
+  /**
+   * Returns the cell next to a cell in a direction, wrapping around the board edges.
+   *
+   * @param index the cell index {@code y * cols + x}
+   * @param d     the direction to look in
+   * @return the index of the neighbouring cell
+   */
+  public int neighbor(int index, Direction d) {
+    int x = index % cols + d.dx;
+    int y = index / cols + d.dy;
+    if (x < 0) {
+      x = cols - 1;
+    }
+    else if (x >= cols) {
+      x = 0;
+    }
+    if (y < 0) {
+      y = rows - 1;
+    }
+    else if (y >= rows) {
+      y = 0;
+    }
+    return y * cols + x;
+  }
+
+  /**
+   * Returns the direction that leads from a cell to a neighbouring cell, wrapping around the
+   * board edges.
+   *
+   * @param from the cell index to move from
+   * @param to   the cell index to move to
+   * @return the direction, or null if the cells are not neighbours
+   */
+  public Direction directionTo(int from, int to) {
+    if (neighbor(from, Direction.RIGHT) == to) {
+      return Direction.RIGHT;
+    }
+    if (neighbor(from, Direction.LEFT) == to) {
+      return Direction.LEFT;
+    }
+    if (neighbor(from, Direction.DOWN) == to) {
+      return Direction.DOWN;
+    }
+    if (neighbor(from, Direction.UP) == to) {
+      return Direction.UP;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of cells not covered by the snake's body.
+   *
+   * @return the free cell count
+   */
+  public int freeCells() {
+    return freeCount;
+  }
+
+  /**
+   * Moves the food to a random free cell, or marks the game as won if the body covers the board.
+   * Package-private so the benchmarks can time it on its own.
+   */
+  void spawnFood() {
+    if (freeCount == 0) {
+      won = true;
+      return;
+    }
+    food = free[random.nextInt(freeCount)];
+  }
+
+  private void addHead(int index) {
+    head = head == 0 ? body.length - 1 : head - 1;
+    body[head] = index;
+    length++;
+    occupy(index);
+  }
+
+  private void addTail(int index) {
+    int p = head + length;
+    body[p >= body.length ? p - body.length : p] = index;
+    length++;
+    occupy(index);
+  }
+
+  private void removeTail() {
+    release(segment(--length));
+  }
+
+  private void clearSnake() {
+    head = 0;
+    length = 0;
+    for (int i = 0; i < free.length; i++) {
+      free[i] = i;
+      slot[i] = i;
+    }
+    freeCount = free.length;
+  }
+
+  /**
+   * Removes a cell from the free index by moving the last free cell into its slot.
+   *
+   * @param index the cell index
+   */
+  private void occupy(int index) {
+    int s = slot[index];
+    int last = free[--freeCount];
+    free[s] = last;
+    slot[last] = s;
+    slot[index] = -1;
+  }
+
+  /**
+   * Appends a cell to the free index.
+   *
+   * @param index the cell index
+   */
+  private void release(int index) {
+    free[freeCount] = index;
+    slot[index] = freeCount++;
+  }
+}
@@ -1,25 +1,28 @@
 package GamingConsole.snake;
 
-import java.awt.*;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import GamingConsole.core.SnapshotBuffer;
 
 /**
  * Represents the model for the Snake game.
  * <p>
- * The SnakeModel class maintains the state of the Snake game, including the
- * GamingConsole.Snake's position, the position of the food, the board dimensions, and the
- * current direction of movement. It also tracks whether the GamingConsole.Snake is alive.
+ * The SnakeModel class holds what the Swing front end needs to show a game: the board
+ * dimensions, the size of a grid cell on screen, and the {@link SnakeEngine} that owns the
+ * GamingConsole.Snake's position, the position of the food, the current direction of movement
+ * and whether the game is still running, and that applies the game rules. It also holds the
+ * {@link SnakePolicy} that steers the GamingConsole.Snake while the autopilot is on.
  * <p>
+ * After every change the thread that made it publishes a {@link SnakeSnapshot}, which the view
+ * draws without touching the model, so the game can be updated on any one thread while the view
+ * paints on another.
  */
 public class SnakeModel {
   final int cols;
   final int rows;
   final int cell;
-  Deque<Point> snake = new ArrayDeque<>();
-  Point food = new Point(0, 0);
-  int dx = 1, dy = 0;
-  boolean alive = true;
+  final SnakeEngine engine;
+  SnakePolicy autopilot = null;
+  /** The snapshots drawn by the view, published after every change. */
+  final SnapshotBuffer<SnakeSnapshot> snapshots;
 
   /**
    * Constructs a SnakeModel for the Snake game.
@@ -32,5 +35,17 @@ public class SnakeModel {
     this.cols = cols;
     this.rows = rows;
     this.cell = cell;
+    this.engine = new SnakeEngine(cols, rows, System.nanoTime());
+    this.snapshots = new SnapshotBuffer<>(() -> new SnakeSnapshot(cols * rows));
+    publish();
+  }
+
+  /**
+   * Publishes a snapshot of the current state for the view. Must be called by the thread that
+   * updates the game.
+   */
+  void publish() {
+    snapshots.back().capture(this);
+    snapshots.publish();
   }
 }
@@ -0,0 +1,28 @@
+package GamingConsole.snake;
+
+import GamingConsole.snake.SnakeEngine.Direction;
+
+/**
+ * Strategy that steers a snake automatically.
+ * <p>
+ * A policy is asked for a direction once before every step of a {@link SnakeEngine}. It may keep
+ * preallocated working buffers between calls, so an instance must only be used by one thread at
+ * a time.
+ */
+public interface SnakePolicy {
+
+  /**
+   * Decides where the snake should move on the next step.
+   *
+   * @param engine the game to steer, which must not be over
+   * @return the direction to turn to, or null to keep going straight
+   */
+  Direction choose(SnakeEngine engine);
+
+  /**
+   * Returns a short name for the policy, shown on screen while it plays.
+   *
+   * @return the policy's name
+   */
+  String name();
+}
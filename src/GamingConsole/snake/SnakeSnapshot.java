@@ -0,0 +1,42 @@
+package GamingConsole.snake;
+
+/**
+ * Copy of what a frame of Snake shows: the cells of the GamingConsole.Snake from head to tail,
+ * the food, the state of the game and the autopilot steering it.
+ * <p>
+ * Its segment array holds a whole board, so capturing never allocates.
+ */
+final class SnakeSnapshot {
+  final int[] segments;
+  int length;
+  int food;
+  boolean alive;
+  boolean won;
+  SnakePolicy autopilot;
+
+  /**
+   * Constructs an empty SnakeSnapshot for a board.
+   *
+   * @param cells the number of cells of the board
+   */
+  SnakeSnapshot(int cells) {
+    this.segments = new int[cells];
+  }
+
+  /**
+   * Copies the state of a game.
+   *
+   * @param model the game to copy
+   */
+  void capture(SnakeModel model) {
+    SnakeEngine engine = model.engine;
+    length = engine.length();
+    for (int i = 0; i < length; i++) {
+      segments[i] = engine.segment(i);
+    }
+    food = engine.food();
+    alive = engine.alive();
+    won = engine.won();
+    autopilot = model.autopilot;
+  }
+}
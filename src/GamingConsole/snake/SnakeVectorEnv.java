@@ -0,0 +1,460 @@
+package GamingConsole.snake;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Batch of independent Snake games stepped together, for training agents.
+ * <p>
+ * Every game follows the rules of {@link SnakeEngine}: the board wraps around its edges, the
+ * snake starts with {@link SnakeEngine#START_LENGTH} segments in the middle of the board heading
+ * right, turning straight back is ignored, running into the body ends the game and filling the
+ * board wins it. A game that ends is started again inside the same step, so the batch always
+ * holds {@code envs} running games.
+ * <p>
+ * Features:
+ * - Struct-of-arrays storage: the state of all games lives in a few primitive arrays indexed by
+ *   game, or by {@code game * cells + cell} for per-cell data, instead of one object per game.
+ *   Each game keeps a ring buffer for its body, the free-cell index of {@link SnakeEngine} and a
+ *   byte grid of cell codes that is updated in place as the snake moves, so a step touches a
+ *   handful of array slots and never allocates.
+ * - Observations are copied from the grids into a caller-supplied buffer, usually a direct
+ *   {@link ByteBuffer} or {@link FloatBuffer} shared with native training code, with one value
+ *   per cell: {@link #EMPTY}, {@link #BODY}, {@link #HEAD} or {@link #FOOD}.
+ * - Each game draws its food positions from its own xorshift generator seeded from the batch
+ *   seed, so results do not depend on the number of threads or on how the games are split.
+ * - With more than one thread, steps and float observations are split into ranges of games that
+ *   run in parallel in a {@link ForkJoinPool}.
+ * <p>
+ * Actions are the ordinals of {@link SnakeEngine.Direction}, or any other value to keep going
+ * straight. A step rewards {@code 1} for eating, {@code -1} for dying and {@code 0} otherwise.
+ * <p>
+ * A SnakeVectorEnv is not thread-safe; it must be driven by one thread at a time.
+ */
+public class SnakeVectorEnv {
+  /** Observation value of a free cell. */
+  public static final byte EMPTY = 0;
+  /** Observation value of a body segment other than the head. */
+  public static final byte BODY = 1;
+  /** Observation value of the head. */
+  public static final byte HEAD = 2;
+  /** Observation value of the food. */
+  public static final byte FOOD = 3;
+
+  private static final int[] DX = {0, 0, -1, 1};
+  private static final int[] DY = {-1, 1, 0, 0};
+  private static final int[] OPPOSITE = {1, 0, 3, 2};
+  private static final int START_DIRECTION = SnakeEngine.Direction.RIGHT.ordinal();
+  private static final int MIN_BATCH = 256;
+
+  private final int envs;
+  private final int cols;
+  private final int rows;
+  private final int cells;
+  private final int threads;
+  private final ForkJoinPool pool;
+
+  private final int[] body;
+  private final int[] free;
+  private final int[] slot;
+  private final byte[] grid;
+  private final int[] head;
+  private final int[] length;
+  private final int[] freeCount;
+  private final int[] food;
+  private final int[] direction;
+  private final long[] rng;
+  private final int[] episodeSteps;
+
+  private int[] pendingActions;
+  private float[] pendingRewards;
+  private boolean[] pendingDones;
+  private FloatBuffer pendingFloats;
+  private int pendingOffset;
+
+  /**
+   * Constructs a single-threaded SnakeVectorEnv and starts every game.
+   *
+   * @param envs the number of games
+   * @param cols the number of columns of each board
+   * @param rows the number of rows of each board
+   * @param seed the seed the games' food generators are derived from
+   */
+  public SnakeVectorEnv(int envs, int cols, int rows, long seed) {
+    this(envs, cols, rows, seed, 1);
+  }
+
+  /**
+   * Constructs a SnakeVectorEnv that steps its games with the given number of threads and
+   * starts every game.
+   *
+   * @param envs    the number of games
+   * @param cols    the number of columns of each board
+   * @param rows    the number of rows of each board
+   * @param seed    the seed the games' food generators are derived from
+   * @param threads the number of threads to step with
+   * @throws IllegalArgumentException if a count is not positive or the boards cannot hold the
+   *                                  starting snake
+   */
+  public SnakeVectorEnv(int envs, int cols, int rows, long seed, int threads) {
+    if (envs < 1 || threads < 1) {
+      throw new IllegalArgumentException("envs and threads must be positive: " + envs + ", "
+              + threads);
+    }
+    if (cols < 2 * SnakeEngine.START_LENGTH - 2 || rows < 1) {
+      throw new IllegalArgumentException("Board too small: " + cols + "x" + rows);
+    }
+    if ((long) envs * cols * rows > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many cells: " + envs + " x " + cols + "x" + rows);
+    }
+    this.envs = envs;
+    this.cols = cols;
+    this.rows = rows;
+    this.cells = cols * rows;
+    this.threads = threads;
+    this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+
+    int total = envs * cells;
+    this.body = new int[total];
+    this.free = new int[total];
+    this.slot = new int[total];
+    this.grid = new byte[total];
+    this.head = new int[envs];
+    this.length = new int[envs];
+    this.freeCount = new int[envs];
+    this.food = new int[envs];
+    this.direction = new int[envs];
+    this.rng = new long[envs];
+    this.episodeSteps = new int[envs];
+    reset(seed);
+  }
+
+  /**
+   * Restarts every game with food generators derived from a new seed.
+   *
+   * @param seed the seed the games' food generators are derived from
+   */
+  public void reset(long seed) {
+    long s = seed;
+    for (int e = 0; e < envs; e++) {
+      s += 0x9E3779B97F4A7C15L;
+      long z = s;
+      z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+      z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+      z ^= z >>> 31;
+      rng[e] = z == 0 ? 1 : z;
+      restart(e);
+    }
+  }
+
+  /**
+   * Restarts one game, continuing its food generator.
+   *
+   * @param env the game number
+   */
+  public void restart(int env) {
+    int base = env * cells;
+    for (int i = 0; i < cells; i++) {
+      free[base + i] = i;
+      slot[base + i] = i;
+    }
+    Arrays.fill(grid, base, base + cells, EMPTY);
+    freeCount[env] = cells;
+    head[env] = 0;
+    length[env] = 0;
+
+    int start = rows / 2 * cols + cols / 2;
+    for (int i = 0; i < SnakeEngine.START_LENGTH; i++) {
+      int cell = start - i;
+      body[base + i] = cell;
+      occupy(env, cell);
+      grid[base + cell] = i == 0 ? HEAD : BODY;
+    }
+    length[env] = SnakeEngine.START_LENGTH;
+    direction[env] = START_DIRECTION;
+    episodeSteps[env] = 0;
+    spawnFood(env);
+  }
+
+  /**
+   * Advances every game by one step. Games that end are restarted, so the observation after the
+   * step shows the first position of the new game.
+   *
+   * @param actions the action of each game: a {@link SnakeEngine.Direction} ordinal, or any other
+   *                value to keep going straight
+   * @param rewards receives the reward of each game's step
+   * @param dones   receives whether each game ended on this step
+   * @throws IllegalArgumentException if an array is shorter than the number of games
+   */
+  public void step(int[] actions, float[] rewards, boolean[] dones) {
+    if (actions.length < envs || rewards.length < envs || dones.length < envs) {
+      throw new IllegalArgumentException("Arrays must hold " + envs + " games");
+    }
+    if (pool == null || envs < 2 * MIN_BATCH) {
+      stepRange(0, envs, actions, rewards, dones);
+      return;
+    }
+    pendingActions = actions;
+    pendingRewards = rewards;
+    pendingDones = dones;
+    try {
+      pool.invoke(new Batch(0, envs, false));
+    }
+    finally {
+      pendingActions = null;
+      pendingRewards = null;
+      pendingDones = null;
+    }
+  }
+
+  /**
+   * Copies the boards of all games into a buffer, starting at its position, one byte per cell in
+   * row-major order and game after game. The buffer's position is advanced past the written
+   * values.
+   *
+   * @param out the buffer to write to, with at least {@link #observationSize()} bytes remaining
+   * @throws BufferOverflowException if the buffer is too small
+   */
+  public void observe(ByteBuffer out) {
+    out.put(grid, 0, grid.length);
+  }
+
+  /**
+   * Copies the boards of all games into a buffer, starting at its position, one float per cell
+   * in row-major order and game after game. The buffer's position is advanced past the written
+   * values.
+   *
+   * @param out the buffer to write to, with at least {@link #observationSize()} floats remaining
+   * @throws BufferOverflowException if the buffer is too small
+   */
+  public void observe(FloatBuffer out) {
+    if (out.remaining() < grid.length) {
+      throw new BufferOverflowException();
+    }
+    int offset = out.position();
+    if (pool == null || envs < 2 * MIN_BATCH) {
+      copyRange(0, envs, out, offset);
+    }
+    else {
+      pendingFloats = out;
+      pendingOffset = offset;
+      try {
+        pool.invoke(new Batch(0, envs, true));
+      }
+      finally {
+        pendingFloats = null;
+      }
+    }
+    out.position(offset + grid.length);
+  }
+
+  /**
+   * Returns the number of values one observation of all games takes.
+   *
+   * @return {@code envs * cols * rows}
+   */
+  public int observationSize() {
+    return grid.length;
+  }
+
+  public int envs() {
+    return envs;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int threads() {
+    return threads;
+  }
+
+  /**
+   * Returns the number of segments of a game's snake.
+   *
+   * @param env the game number
+   * @return the length of the snake
+   */
+  public int length(int env) {
+    return length[env];
+  }
+
+  /**
+   * Returns the cell of a body segment of a game's snake.
+   *
+   * @param env the game number
+   * @param i   the segment number, 0 being the head
+   * @return the cell index {@code y * cols + x}
+   */
+  public int segment(int env, int i) {
+    int p = head[env] + i;
+    return body[env * cells + (p >= cells ? p - cells : p)];
+  }
+
+  /**
+   * Returns the cell of a game's food.
+   *
+   * @param env the game number
+   * @return the cell index {@code y * cols + x}
+   */
+  public int food(int env) {
+    return food[env];
+  }
+
+  /**
+   * Returns the number of steps played in a game since it was last started.
+   *
+   * @param env the game number
+   * @return the step count
+   */
+  public int episodeSteps(int env) {
+    return episodeSteps[env];
+  }
+
+  private void stepRange(int from, int to, int[] actions, float[] rewards, boolean[] dones) {
+    for (int e = from; e < to; e++) {
+      int base = e * cells;
+      int a = actions[e];
+      if (a >= 0 && a < 4 && a != OPPOSITE[direction[e]]) {
+        direction[e] = a;
+      }
+      episodeSteps[e]++;
+
+      int h = body[base + head[e]];
+      int x = h % cols + DX[direction[e]];
+      int y = h / cols + DY[direction[e]];
+      if (x < 0) {
+        x = cols - 1;
+      }
+      else if (x >= cols) {
+        x = 0;
+      }
+      if (y < 0) {
+        y = rows - 1;
+      }
+      else if (y >= rows) {
+        y = 0;
+      }
+      int next = y * cols + x;
+
+      if (slot[base + next] < 0) {
+        rewards[e] = -1f;
+        dones[e] = true;
+        restart(e);
+        continue;
+      }
+      head[e] = head[e] == 0 ? cells - 1 : head[e] - 1;
+      body[base + head[e]] = next;
+      length[e]++;
+      occupy(e, next);
+      grid[base + h] = BODY;
+      grid[base + next] = HEAD;
+
+      if (next == food[e]) {
+        rewards[e] = 1f;
+        if (freeCount[e] == 0) {
+          dones[e] = true; // the board is full: the game is won
+          restart(e);
+          continue;
+        }
+        spawnFood(e);
+      }
+      else {
+        rewards[e] = 0f;
+        int tail = segment(e, --length[e]);
+        release(e, tail);
+        grid[base + tail] = EMPTY;
+      }
+      dones[e] = false;
+    }
+  }
+
+  private void copyRange(int from, int to, FloatBuffer out, int offset) {
+    for (int i = from * cells, end = to * cells; i < end; i++) {
+      out.put(offset + i, grid[i]);
+    }
+  }
+
+  /**
+   * Moves a game's food to a random free cell, drawn with the game's xorshift generator.
+   *
+   * @param env the game number, which must have a free cell
+   */
+  private void spawnFood(int env) {
+    long s = rng[env];
+    s ^= s << 13;
+    s ^= s >>> 7;
+    s ^= s << 17;
+    rng[env] = s;
+    int pick = (int) (((s >>> 32) * freeCount[env]) >>> 32);
+    int cell = free[env * cells + pick];
+    food[env] = cell;
+    grid[env * cells + cell] = FOOD;
+  }
+
+  /**
+   * Removes a cell from a game's free index by moving the last free cell into its slot.
+   *
+   * @param env  the game number
+   * @param cell the cell index
+   */
+  private void occupy(int env, int cell) {
+    int base = env * cells;
+    int s = slot[base + cell];
+    int last = free[base + --freeCount[env]];
+    free[base + s] = last;
+    slot[base + last] = s;
+    slot[base + cell] = -1;
+  }
+
+  /**
+   * Appends a cell to a game's free index.
+   *
+   * @param env  the game number
+   * @param cell the cell index
+   */
+  private void release(int env, int cell) {
+    int base = env * cells;
+    free[base + freeCount[env]] = cell;
+    slot[base + cell] = freeCount[env]++;
+  }
+
+  /**
+   * Steps or copies the observations of a range of games, splitting it in halves until the
+   * ranges are small enough to run on one thread.
+   */
+  private final class Batch extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final boolean observe;
+
+    Batch(int from, int to, boolean observe) {
+      this.from = from;
+      this.to = to;
+      this.observe = observe;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from < 2 * MIN_BATCH) {
+        if (observe) {
+          copyRange(from, to, pendingFloats, pendingOffset);
+        }
+        else {
+          stepRange(from, to, pendingActions, pendingRewards, pendingDones);
+        }
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(new Batch(from, mid, observe), new Batch(mid, to, observe));
+    }
+  }
+}
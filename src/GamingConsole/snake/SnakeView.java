@@ -4,17 +4,42 @@ import java.awt.*;
 
 import javax.swing.*;
 
+import GamingConsole.core.ActiveCanvas;
+import GamingConsole.core.DirtyRegions;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.StaticLayer;
+import GamingConsole.core.Theme;
+
 /**
  * The SnakeView class represents the graphical view for the Snake game.
  * <p>
  * SnakeView is responsible for rendering the Snake game board, the GamingConsole.Snake,
  * the food, and game-related metadata such as the current length of the GamingConsole.Snake
  * and the game status (e.g., "Game Over"). It makes use of the SnakeModel to
- * retrieve the current game state and updates the display accordingly.
- *
+ * retrieve the current game state and updates the display accordingly. The background and
+ * the grid lines are pre-rendered once into a {@link StaticLayer}, so a frame only draws the
+ * food, the GamingConsole.Snake and the status line on top of it. Between full repaints the
+ * controller marks the cells and the status line that changed, and only those are repainted.
+ * Colours and fonts come from the shared {@link Theme} and the status line is rebuilt only when
+ * the values it shows change, so a frame allocates none of them. Everything is drawn from the
+ * newest {@link SnakeSnapshot} the model published, never from the model itself, and every
+ * frame is timed into the game's {@link GameMetrics}.
+ * <p>
+ * In the optional active rendering mode an {@link ActiveCanvas} covers the view and draws whole
+ * frames from those snapshots on its own thread at a steady rate, and Swing paints nothing of
+ * the game.
  */
 public class SnakeView extends JPanel {
   private final SnakeModel model;
+  private final StaticLayer background = new StaticLayer(this::paintBackground);
+  private final DirtyRegions dirty = new DirtyRegions(this);
+  private final ActiveCanvas canvas;
+  final GameMetrics metrics;
+  private final Theme theme = Theme.DEFAULT;
+  private String status;
+  private int statusLength = -1;
+  private int statusState;
+  private SnakePolicy statusPilot;
 
   /**
    * Constructs a SnakeView instance, responsible for rendering the graphical view
@@ -25,41 +50,188 @@ public class SnakeView extends JPanel {
    *          configuration, including the number of columns, rows, and cell size
    */
   public SnakeView(SnakeModel model) {
+    this(model, false);
+  }
+
+  /**
+   * Constructs a SnakeView that is painted by Swing or, in active mode, rendered by its own
+   * thread.
+   *
+   * @param model  the SnakeModel instance containing the game's state and board configuration
+   * @param active whether to render actively onto a canvas instead of painting through Swing
+   */
+  public SnakeView(SnakeModel model, boolean active) {
+    this(model, active, new GameMetrics("snake"));
+  }
+
+  /**
+   * Constructs a SnakeView that records its frame times, and those of its controller, into the
+   * given metrics.
+   *
+   * @param model   the SnakeModel instance containing the game's state and board configuration
+   * @param active  whether to render actively onto a canvas instead of painting through Swing
+   * @param metrics the metrics to record into
+   */
+  public SnakeView(SnakeModel model, boolean active, GameMetrics metrics) {
     this.model = model;
+    this.metrics = metrics;
     setPreferredSize(new Dimension(model.cols * model.cell, model.rows * model.cell + 30));
-    setBackground(new Color(20, 20, 20));
+    setBackground(theme.snakeBackground);
+    if (active) {
+      canvas = new ActiveCanvas(this::render, "Snake render");
+      canvas.setBackground(theme.snakeBackground);
+      setLayout(new BorderLayout());
+      add(canvas);
+    }
+    else {
+      canvas = null;
+    }
+  }
+
+  /**
+   * Starts rendering frames on the render thread in active mode; does nothing otherwise.
+   */
+  void startRendering() {
+    if (canvas != null) {
+      canvas.start();
+    }
+  }
+
+  /**
+   * Stops the render thread in active mode; does nothing otherwise.
+   */
+  void stopRendering() {
+    if (canvas != null) {
+      canvas.stop();
+    }
+  }
+
+  /**
+   * Marks a grid cell as changed.
+   *
+   * @param index the cell index {@code y * cols + x}
+   */
+  void markCell(int index) {
+    if (canvas != null) {
+      return; // every snapshot holds the whole board
+    }
+    dirty.add(index % model.cols * model.cell, index / model.cols * model.cell, model.cell,
+            model.cell);
+  }
+
+  /**
+   * Marks the status line below the board as changed.
+   */
+  void markStatus() {
+    if (canvas != null) {
+      return;
+    }
+    dirty.add(0, model.rows * model.cell, getWidth(), getHeight() - model.rows * model.cell);
+  }
+
+  /**
+   * Marks the whole view as changed.
+   */
+  void markAll() {
+    if (canvas != null) {
+      return;
+    }
+    dirty.addAll();
+  }
+
+  /**
+   * Repaints the cells and the status line marked since the last repaint. Does nothing in active
+   * mode, where the render thread picks up every published snapshot by itself.
+   */
+  void repaintMarked() {
+    dirty.paint();
   }
 
   @Override
   protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
+    if (canvas != null) {
+      return; // the canvas covers the view
+    }
+    long start = System.nanoTime();
     Graphics2D g2 = (Graphics2D) g;
+    SnakeSnapshot s = model.snapshots.acquire();
+    if (s == null) {
+      background.draw(g2, getWidth(), getHeight());
+      return;
+    }
+    draw(g2, s, getWidth(), getHeight());
+    metrics.painted(start);
+  }
+
+  /**
+   * Renders a frame of the active canvas from the newest published snapshot.
+   */
+  private void render(Graphics2D g2, int width, int height) {
+    long start = System.nanoTime();
+    SnakeSnapshot s = model.snapshots.acquire();
+    if (s == null) {
+      background.draw(g2, width, height);
+      return;
+    }
+    draw(g2, s, width, height);
+    metrics.painted(start);
+  }
+
+  /**
+   * Draws a frame: the board, the food, the GamingConsole.Snake and the status line.
+   */
+  private void draw(Graphics2D g2, SnakeSnapshot s, int width, int height) {
+    background.draw(g2, width, height);
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-    g2.setColor(new Color(40, 40, 40));
+    if (!s.won) {
+      g2.setColor(theme.snakeFood);
+      g2.fillOval(s.food % model.cols * model.cell + 4, s.food / model.cols * model.cell + 4,
+              model.cell - 8, model.cell - 8);
+    }
+
+    g2.setColor(theme.snakeBody);
+    for (int i = 0; i < s.length; i++) {
+      int p = s.segments[i];
+      g2.fillRoundRect(p % model.cols * model.cell + 2, p / model.cols * model.cell + 2,
+              model.cell - 4, model.cell - 4, 10, 10);
+    }
+
+    g2.setColor(theme.snakeText);
+    g2.setFont(theme.snakeStatusFont);
+    g2.drawString(status(s), 10, model.rows * model.cell + 20);
+  }
+
+  /**
+   * Returns the status line, building it again only if the length, the state of the game or the
+   * autopilot changed since it was last built.
+   */
+  private String status(SnakeSnapshot s) {
+    int state = s.won ? 2 : s.alive ? 0 : 1;
+    if (status == null || s.length != statusLength || state != statusState
+            || s.autopilot != statusPilot) {
+      statusLength = s.length;
+      statusState = state;
+      statusPilot = s.autopilot;
+      status = "Length: " + statusLength
+              + (state == 2 ? "  — You win! Press R"
+              : state == 0 ? "  (R to reset)" : "  — Game Over! Press R")
+              + (statusPilot != null ? "  Autopilot: " + statusPilot.name() : "  P autopilot");
+    }
+    return status;
+  }
+
+  /**
+   * Paints the parts of the board that never change: the background and the grid lines.
+   */
+  private void paintBackground(Graphics2D g2, int width, int height) {
+    g2.setColor(getBackground());
+    g2.fillRect(0, 0, width, height);
+    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g2.setColor(theme.snakeGrid);
     for (int x = 0; x <= model.cols; x++) g2.drawLine(x * model.cell, 0, x * model.cell,
             model.rows * model.cell);
     for (int y = 0; y <= model.rows; y++) g2.drawLine(0, y * model.cell, model.cols * model.cell,
             y * model.cell);
-
-    g2.setColor(new Color(255, 90, 90));
-    g2.fillOval(model.food.x * model.cell + 4, model.food.y * model.cell + 4, model.cell - 8,
-            model.cell - 8);
-
-    int i = 0;
-    for (Point p : model.snake) {
-      float t = (float) i / Math.max(1, model.snake.size() - 1);
-      Color c = new Color(0,255,156);
-      g2.setColor(c);
-      g2.fillRoundRect(p.x * model.cell + 2, p.y * model.cell + 2, model.cell - 4,
-              model.cell - 4, 10, 10);
-      i++;
-    }
-
-    g2.setColor(Color.WHITE);
-    g2.setFont(new Font("Monospaced", Font.BOLD, 16));
-    g2.drawString("Length: " + model.snake.size()
-            + (model.alive ? "  (R to reset)" : "  — Game Over! Press R"),
-            10, model.rows * model.cell + 20);
   }
 }
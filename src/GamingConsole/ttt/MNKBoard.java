@@ -0,0 +1,201 @@
+package GamingConsole.ttt;
+
+import java.util.Arrays;
+
+/**
+ * Board engine for m,n,k games: two players alternately mark cells of a {@code cols x rows} grid
+ * and the first to get {@code k} marks in a row horizontally, vertically or diagonally wins.
+ * Tic-Tac-Toe is the 3,3,3 game and Gomoku the 15,15,5 game.
+ * <p>
+ * Win detection is incremental. For each of the four line directions the board keeps the length
+ * of every run of equal marks in the cells at both ends of the run. Placing a mark joins the runs
+ * ending next to it in each direction, so the new run length is read from the two neighbours and
+ * written to the two new ends: O(1) work per move, independent of board size and {@code k}.
+ * The values overwritten by a move are saved, which makes undo O(1) as well. The board is full
+ * when the move count reaches the number of cells.
+ */
+public class MNKBoard {
+  private static final int[] DR = {0, 1, 1, 1};
+  private static final int[] DC = {1, 0, 1, -1};
+  private static final int SAVED = 4 * 3 * 2;
+
+  private final int cols;
+  private final int rows;
+  private final int k;
+  private final byte[] cells;
+  private final int[][] run;
+  private final int[] history;
+  private final int[] saved;
+  private int moves = 0;
+  private int winner = 0;
+
+  /**
+   * Constructs an empty MNKBoard.
+   *
+   * @param cols the number of columns
+   * @param rows the number of rows
+   * @param k    the number of marks in a row needed to win
+   * @throws IllegalArgumentException if a dimension or k is not positive
+   */
+  public MNKBoard(int cols, int rows, int k) {
+    if (cols < 1 || rows < 1 || k < 1) {
+      throw new IllegalArgumentException("Invalid m,n,k game: " + cols + "," + rows + "," + k);
+    }
+    this.cols = cols;
+    this.rows = rows;
+    this.k = k;
+    this.cells = new byte[cols * rows];
+    this.run = new int[4][cols * rows];
+    this.history = new int[cols * rows];
+    this.saved = new int[cols * rows * SAVED];
+  }
+
+  /**
+   * Empties the board and gives the move to player 1.
+   */
+  public void reset() {
+    Arrays.fill(cells, (byte) 0);
+    for (int[] r : run) {
+      Arrays.fill(r, 0);
+    }
+    moves = 0;
+    winner = 0;
+  }
+
+  public int cols() {
+    return cols;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int winLength() {
+    return k;
+  }
+
+  /**
+   * Returns the number of marks on the board.
+   *
+   * @return the number of moves played so far
+   */
+  public int moveCount() {
+    return moves;
+  }
+
+  /**
+   * Returns the player whose turn it is.
+   *
+   * @return 1 for X or 2 for O
+   */
+  public int current() {
+    return (moves & 1) + 1;
+  }
+
+  /**
+   * Returns the mark in a cell.
+   *
+   * @param row the row index
+   * @param col the column index
+   * @return 0 for empty, 1 for X or 2 for O
+   */
+  public int get(int row, int col) {
+    return cells[row * cols + col];
+  }
+
+  /**
+   * Marks a cell for the current player.
+   *
+   * @param row the row index
+   * @param col the column index
+   * @return false if the cell is outside the board or already marked
+   */
+  public boolean place(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols || cells[row * cols + col] != 0) {
+      return false;
+    }
+    int p = current();
+    int index = row * cols + col;
+    int s = moves * SAVED;
+    cells[index] = (byte) p;
+    for (int d = 0; d < 4; d++) {
+      int left = runLength(d, row - DR[d], col - DC[d], p);
+      int right = runLength(d, row + DR[d], col + DC[d], p);
+      int total = left + 1 + right;
+      int start = (row - left * DR[d]) * cols + (col - left * DC[d]);
+      int end = (row + right * DR[d]) * cols + (col + right * DC[d]);
+      int[] r = run[d];
+      saved[s++] = start;
+      saved[s++] = r[start];
+      saved[s++] = end;
+      saved[s++] = r[end];
+      saved[s++] = index;
+      saved[s++] = r[index];
+      r[index] = total;
+      r[start] = total;
+      r[end] = total;
+      if (total >= k) {
+        winner = p;
+      }
+    }
+    history[moves++] = index;
+    return true;
+  }
+
+  /**
+   * Takes back the most recent move.
+   *
+   * @return false if the board is empty
+   */
+  public boolean undo() {
+    if (moves == 0) {
+      return false;
+    }
+    int index = history[--moves];
+    int s = moves * SAVED + SAVED;
+    for (int d = 3; d >= 0; d--) {
+      int[] r = run[d];
+      r[saved[s - 2]] = saved[s - 1];
+      r[saved[s - 4]] = saved[s - 3];
+      r[saved[s - 6]] = saved[s - 5];
+      s -= 6;
+    }
+    cells[index] = 0;
+    winner = 0;
+    return true;
+  }
+
+  /**
+   * Checks whether the last move completed a line of k.
+   *
+   * @return true if the player who just moved has won
+   */
+  public boolean lastMoveWon() {
+    return winner != 0;
+  }
+
+  /**
+   * Returns the winner of the game.
+   *
+   * @return 1 or 2 for the winning player, or 0 if nobody has won
+   */
+  public int winner() {
+    return winner;
+  }
+
+  /**
+   * Checks whether every cell is marked.
+   *
+   * @return true if no more moves can be played
+   */
+  public boolean isFull() {
+    return moves == cells.length;
+  }
+
+  private int runLength(int d, int row, int col, int p) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols || cells[row * cols + col] != p) {
+      return 0;
+    }
+    return run[d][row * cols + col];
+  }
+}
@@ -4,10 +4,12 @@ import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.util.Arrays;
 
 import javax.swing.*;
 
+import GamingConsole.core.GameController;
+import GamingConsole.core.GameMetrics;
+
 /**
  * The TTTController class manages the control logic for a Tic Tac Toe game.
  * <p>
@@ -17,11 +19,15 @@ import javax.swing.*;
  * - Updates the game state based on user actions using the model.
  * - Triggers updates to the view to reflect game state changes.
  * - Ensures the game rules are followed, such as checking for win conditions or tied games.
+ * - Plays O with the {@link TTTSolver} on 3x3 boards when the computer opponent is enabled.
+ * - Records the time taken to handle each move and its time to reach the screen into the view's
+ *   {@link GameMetrics}.
  */
-public class TTTController implements MouseListener {
+public class TTTController implements MouseListener, GameController {
   private final TTTModel model;
   private final TTTView view;
   private final Runnable onBack;
+  private final GameMetrics metrics;
 
   /**
    * Constructs a TTTController instance to manage the control logic of the Tic-Tac-Toe game.
@@ -34,15 +40,32 @@ public class TTTController implements MouseListener {
     this.model = model;
     this.view = view;
     this.onBack = onBack;
+    this.metrics = view.metrics;
     view.addMouseListener(this);
     installKeyBindings();
     reset();
   }
 
   public void reset() {
-    for (int r = 0; r < model.size; r++) Arrays.fill(model.board[r], 0);
-    model.turn = 1;
+    model.board.reset();
     model.over = false;
+    model.publish();
+    view.repaint();
+  }
+
+  @Override
+  public void activate() {
+    reset();
+  }
+
+  @Override
+  public void suspend() {
+    // turn-based: nothing runs between clicks
+  }
+
+  @Override
+  public void resume() {
+    model.publish();
     view.repaint();
   }
 
@@ -55,6 +78,16 @@ public class TTTController implements MouseListener {
         reset();
       }
     });
+    im.put(KeyStroke.getKeyStroke(KeyEvent.VK_A, 0), "ai");
+    am.put("ai", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        model.vsAI = !model.vsAI;
+        playAIIfDue();
+        view.markStatus();
+        model.publish();
+        view.repaintMarked();
+      }
+    });
     im.put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "menu");
     am.put("menu", new AbstractAction() {
       public void actionPerformed(ActionEvent e) {
@@ -63,47 +96,58 @@ public class TTTController implements MouseListener {
     });
   }
 
-  private boolean win(int p) {
-    for (int i = 0; i < model.size; i++) {
-      if (model.board[i][0] == p && model.board[i][1] == p && model.board[i][2] == p) {
-        return true;
-      }
-      if (model.board[0][i] == p && model.board[1][i] == p && model.board[2][i] == p) {
-        return true;
-      }
+  @Override
+  public void mouseClicked(MouseEvent e) {
+    if (model.over) {
+      return;
     }
-    if (model.board[0][0] == p && model.board[1][1] == p && model.board[2][2] == p) {
-      return true;
+    if (aiEnabled() && model.board.current() == TTTModel.AI_PLAYER) {
+      return;
+    }
+    long start = System.nanoTime();
+    int c = e.getX() / model.cell, r = e.getY() / model.cell;
+    if (place(r, c)) {
+      metrics.input();
+      playAIIfDue();
+      view.markStatus();
+      model.publish();
+      metrics.published();
+      metrics.ticked(start);
+      view.repaintMarked();
     }
-    return model.board[0][2] == p && model.board[1][1] == p && model.board[2][0] == p;
   }
 
-  private boolean full() {
-    for (int r = 0; r < model.size; r++) {
-      for (int c = 0; c < model.size; c++) {
-        if (model.board[r][c] == 0) {
-          return false;
-        }
-      }
+  /**
+   * Marks a cell for the current player and ends the game on a win or a full board.
+   *
+   * @param r the row index
+   * @param c the column index
+   * @return false if the cell could not be marked
+   */
+  private boolean place(int r, int c) {
+    if (!model.board.place(r, c)) {
+      return false;
     }
+    view.markCell(r, c);
+    model.over = model.board.lastMoveWon() || model.board.isFull();
     return true;
   }
 
-  @Override
-  public void mouseClicked(MouseEvent e) {
-    if (model.over) {
+  private boolean aiEnabled() {
+    return model.vsAI && TTTSolver.supports(model.board);
+  }
+
+  /**
+   * Lets the computer opponent answer if it is its turn. The solved table makes this a lookup,
+   * so the move is played immediately on the event dispatch thread.
+   */
+  private void playAIIfDue() {
+    if (model.over || !aiEnabled() || model.board.current() != TTTModel.AI_PLAYER) {
       return;
     }
-    int c = e.getX() / model.cell, r = e.getY() / model.cell;
-    if (r < model.size && c < model.size && model.board[r][c] == 0) {
-      model.board[r][c] = model.turn;
-      if (win(model.turn) || full()) {
-        model.over = true;
-      }
-      else {
-        model.turn = 3 - model.turn;
-      }
-      view.repaint();
+    int move = TTTSolver.bestMove(model.board);
+    if (move >= 0) {
+      place(move / model.size, move % model.size);
     }
   }
 
@@ -1,23 +1,35 @@
 package GamingConsole.ttt;
 
+import GamingConsole.core.SnapshotBuffer;
+
 /**
  * Represents the model for a Tic-Tac-Toe game.
  * <p>
  * Responsibilities:
  * - Tracks the dimensions of the game board.
- * - Maintains the board state, indicating empty cells, cells marked with X, or cells marked with O.
- * - Tracks the current player's turn (1 for player X, 2 for player O).
+ * - Holds the {@link MNKBoard} with the marks, the current player's turn (1 for player X, 2 for
+ *   player O) and the number of marks in a row needed to win.
  * - Determines if the game is over.
+ * - Records whether O is played by the computer opponent.
+ * - Publishes a {@link TTTSnapshot} after every change, which the view draws without touching
+ *   the model.
  */
 public class TTTModel {
+  /** The player controlled by the computer opponent (O). */
+  static final int AI_PLAYER = 2;
+
   final int size;
   final int cell;
-  int[][] board; // 0 empty, 1 X, 2 O
-  int turn = 1;
+  final MNKBoard board;
   boolean over = false;
+  /** Whether O is played by the computer; off by default, so two people play. */
+  boolean vsAI = false;
+  /** The snapshots drawn by the view, published after every change. */
+  final SnapshotBuffer<TTTSnapshot> snapshots;
 
   /**
-   * Constructs a TTTModel instance for a Tic-Tac-Toe game.
+   * Constructs a TTTModel instance for a Tic-Tac-Toe game. The win length is the board size up
+   * to 5, so a 3x3 board plays classic Tic-Tac-Toe and a 15x15 board plays Gomoku.
    *
    * @param size the size of the game board, representing the number of rows and columns
    *             (e.g., a standard Tic-Tac-Toe board would have a size of 3).
@@ -25,8 +37,31 @@ public class TTTModel {
    *             layout calculations.
    */
   public TTTModel(int size, int cell) {
+    this(size, Math.min(size, 5), cell);
+  }
+
+  /**
+   * Constructs a TTTModel instance for an m,n,k game on a square board.
+   *
+   * @param size      the number of rows and columns of the game board.
+   * @param winLength the number of marks in a row needed to win.
+   * @param cell      the dimension of each cell on the board, typically used for graphical or
+   *                  layout calculations.
+   */
+  public TTTModel(int size, int winLength, int cell) {
     this.size = size;
     this.cell = cell;
-    this.board = new int[size][size];
+    this.board = new MNKBoard(size, size, winLength);
+    this.snapshots = new SnapshotBuffer<>(() -> new TTTSnapshot(size));
+    publish();
+  }
+
+  /**
+   * Publishes a snapshot of the current state for the view. Must be called on the Event Dispatch
+   * Thread, which makes every change to the game.
+   */
+  void publish() {
+    snapshots.back().capture(this);
+    snapshots.publish();
   }
 }
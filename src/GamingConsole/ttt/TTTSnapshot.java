@@ -0,0 +1,50 @@
+package GamingConsole.ttt;
+
+/**
+ * Copy of what a frame of Tic-Tac-Toe shows: the mark in every cell, whose turn it is, whether
+ * the game is over and whether O is played by the computer opponent.
+ */
+final class TTTSnapshot {
+  private final int size;
+  private final byte[] cells;
+  int current;
+  boolean over;
+  boolean vsAI;
+
+  /**
+   * Constructs an empty TTTSnapshot for a square board.
+   *
+   * @param size the number of rows and columns of the board
+   */
+  TTTSnapshot(int size) {
+    this.size = size;
+    this.cells = new byte[size * size];
+  }
+
+  /**
+   * Copies the state of a game.
+   *
+   * @param model the game to copy
+   */
+  void capture(TTTModel model) {
+    for (int r = 0; r < size; r++) {
+      for (int c = 0; c < size; c++) {
+        cells[r * size + c] = (byte) model.board.get(r, c);
+      }
+    }
+    current = model.board.current();
+    over = model.over;
+    vsAI = model.vsAI;
+  }
+
+  /**
+   * Returns the mark in a cell.
+   *
+   * @param row the row index
+   * @param col the column index
+   * @return 0 for empty, 1 for X or 2 for O
+   */
+  int get(int row, int col) {
+    return cells[row * size + col];
+  }
+}
@@ -0,0 +1,184 @@
+package GamingConsole.ttt;
+
+import java.util.Arrays;
+
+/**
+ * Perfect-play opponent for classic 3x3 Tic-Tac-Toe.
+ * <p>
+ * Features:
+ * - Boards are encoded as base-3 integers (cell {@code i} contributes {@code mark * 3^i}), so
+ *   every position is an index into a {@code byte[3^9]} table.
+ * - Positions are canonicalized under the 8 symmetries of the square (4 rotations, each
+ *   optionally mirrored) by taking the smallest code, which leaves 765 distinct positions.
+ * - The whole game tree is solved with memoized minimax the first time the solver is used and
+ *   the table is shared by every game afterwards, so choosing a move is a handful of table
+ *   lookups.
+ * <p>
+ * Scores are from the side to move's point of view: 0 is a draw, a positive score a win and a
+ * negative score a loss. Wins score {@code 10 - moves} where {@code moves} counts the marks on
+ * the board after the winning mark, so faster wins and slower losses are preferred.
+ */
+public final class TTTSolver {
+  private static final int CELLS = 9;
+  private static final byte UNKNOWN = Byte.MIN_VALUE;
+  private static final int[] POW3 = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+  private static final int[][] LINES = {
+          {0, 1, 2}, {3, 4, 5}, {6, 7, 8},
+          {0, 3, 6}, {1, 4, 7}, {2, 5, 8},
+          {0, 4, 8}, {2, 4, 6}
+  };
+  private static final int[][] SYMMETRIES = symmetries();
+  private static final byte[] TABLE = solveAll();
+
+  private TTTSolver() {
+  }
+
+  /**
+   * Checks whether the solver can play on a board.
+   *
+   * @param board the board to check
+   * @return true for 3x3 boards with a win length of 3
+   */
+  public static boolean supports(MNKBoard board) {
+    return board.cols() == 3 && board.rows() == 3 && board.winLength() == 3;
+  }
+
+  /**
+   * Picks a perfect move for the side to move. Among equally good moves the first cell in
+   * row-major order is chosen.
+   *
+   * @param board a 3x3 board with a win length of 3 on which nobody has won yet
+   * @return the cell to mark as {@code row * 3 + col}, or -1 if the board is full
+   * @throws IllegalArgumentException if the board is not classic Tic-Tac-Toe
+   */
+  public static int bestMove(MNKBoard board) {
+    if (!supports(board)) {
+      throw new IllegalArgumentException("Only 3x3 boards with k = 3 are solved");
+    }
+    int[] cells = new int[CELLS];
+    for (int i = 0; i < CELLS; i++) {
+      cells[i] = board.get(i / 3, i % 3);
+    }
+    int p = board.current();
+    int best = -1;
+    int bestScore = Integer.MIN_VALUE;
+    for (int i = 0; i < CELLS; i++) {
+      if (cells[i] != 0) {
+        continue;
+      }
+      cells[i] = p;
+      int score = -TABLE[canonical(cells)];
+      cells[i] = 0;
+      if (score > bestScore) {
+        bestScore = score;
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns the solved score of a position.
+   *
+   * @param board a 3x3 board with a win length of 3
+   * @return the score from the side to move's point of view
+   * @throws IllegalArgumentException if the board is not classic Tic-Tac-Toe
+   */
+  public static int score(MNKBoard board) {
+    if (!supports(board)) {
+      throw new IllegalArgumentException("Only 3x3 boards with k = 3 are solved");
+    }
+    int[] cells = new int[CELLS];
+    for (int i = 0; i < CELLS; i++) {
+      cells[i] = board.get(i / 3, i % 3);
+    }
+    return TABLE[canonical(cells)];
+  }
+
+  private static byte[] solveAll() {
+    byte[] table = new byte[POW3[CELLS - 1] * 3];
+    Arrays.fill(table, UNKNOWN);
+    solve(new int[CELLS], 0, table);
+    return table;
+  }
+
+  /**
+   * Memoized negamax over the full game tree.
+   *
+   * @param cells the marks, modified in place and restored
+   * @param moves the number of marks on the board
+   * @param table the score table being filled
+   * @return the score from the side to move's point of view
+   */
+  private static int solve(int[] cells, int moves, byte[] table) {
+    int code = canonical(cells);
+    if (table[code] != UNKNOWN) {
+      return table[code];
+    }
+    int score;
+    if (moves > 0 && hasLine(cells, 2 - (moves & 1))) {
+      score = moves - 10;
+    }
+    else if (moves == CELLS) {
+      score = 0;
+    }
+    else {
+      score = Integer.MIN_VALUE;
+      int p = (moves & 1) + 1;
+      for (int i = 0; i < CELLS; i++) {
+        if (cells[i] == 0) {
+          cells[i] = p;
+          score = Math.max(score, -solve(cells, moves + 1, table));
+          cells[i] = 0;
+        }
+      }
+    }
+    table[code] = (byte) score;
+    return score;
+  }
+
+  private static boolean hasLine(int[] cells, int p) {
+    for (int[] line : LINES) {
+      if (cells[line[0]] == p && cells[line[1]] == p && cells[line[2]] == p) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int canonical(int[] cells) {
+    int min = Integer.MAX_VALUE;
+    for (int[] map : SYMMETRIES) {
+      int code = 0;
+      for (int i = 0; i < CELLS; i++) {
+        code += cells[map[i]] * POW3[i];
+      }
+      min = Math.min(min, code);
+    }
+    return min;
+  }
+
+  /**
+   * Builds the cell permutations of the 8 symmetries of the square.
+   *
+   * @return for each symmetry, the source cell of every target cell
+   */
+  private static int[][] symmetries() {
+    int[][] maps = new int[8][CELLS];
+    for (int s = 0; s < 8; s++) {
+      for (int r = 0; r < 3; r++) {
+        for (int c = 0; c < 3; c++) {
+          int sr = r;
+          int sc = s >= 4 ? 2 - c : c;
+          for (int t = 0; t < s % 4; t++) {
+            int tmp = sr;
+            sr = sc;
+            sc = 2 - tmp;
+          }
+          maps[s][r * 3 + c] = sr * 3 + sc;
+        }
+      }
+    }
+    return maps;
+  }
+}
@@ -4,6 +4,11 @@ import java.awt.*;
 
 import javax.swing.*;
 
+import GamingConsole.core.DirtyRegions;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.StaticLayer;
+import GamingConsole.core.Theme;
+
 /**
  * Represents the view component for a Tic-Tac-Toe game.
  * <p>
@@ -12,13 +17,28 @@ import javax.swing.*;
  * overlaying status messages such as the current player's turn or game over indication.
  * <p>
  * Responsibilities:
- * - Renders the game grid with dividing lines.
+ * - Renders the game grid with dividing lines, pre-rendered once into a {@link StaticLayer}.
  * - Draws players' moves based on the game state in the model (X as red lines, O as blue circles).
  * - Displays the current status of the game, such as the active player's turn or game over prompt.
- * - Handles changes in the game state by redrawing the board when necessary.
+ * - Handles changes in the game state by redrawing the board when necessary, limited to the
+ *   cells and status lines the controller marks as changed.
+ * - Paints with the colours, fonts and stroke of the shared {@link Theme} and fixed status
+ *   lines, so a frame allocates none of them.
+ * - Draws the newest {@link TTTSnapshot} the model published rather than the model itself.
+ * - Times every paint into the game's {@link GameMetrics}.
  */
 public class TTTView extends JPanel {
+  private static final String GAME_OVER = "Game Over — R to reset   (ESC to Menu)";
+  private static final String X_TURN = "X's turn   (ESC to Menu)";
+  private static final String O_TURN = "O's turn   (ESC to Menu)";
+  private static final String AI_OPPONENT = "O: AI   A toggle AI";
+  private static final String HUMAN_OPPONENT = "O: human   A toggle AI";
+
   private final TTTModel model;
+  private final StaticLayer grid = new StaticLayer(this::paintGrid);
+  private final DirtyRegions dirty = new DirtyRegions(this);
+  private final Theme theme = Theme.DEFAULT;
+  final GameMetrics metrics;
 
   /**
    * Constructs a TTTView instance for the Tic-Tac-Toe game.
@@ -27,37 +47,94 @@ public class TTTView extends JPanel {
    *              Tic-Tac-Toe game.
    */
   public TTTView(TTTModel model) {
+    this(model, new GameMetrics("ttt"));
+  }
+
+  /**
+   * Constructs a TTTView that records its paint times, and the move times of its controller,
+   * into the given metrics.
+   *
+   * @param model   the {@code TTTModel} instance representing the state and dimensions of the
+   *                Tic-Tac-Toe game.
+   * @param metrics the metrics to record into
+   */
+  public TTTView(TTTModel model, GameMetrics metrics) {
     this.model = model;
-    setPreferredSize(new Dimension(model.size * model.cell, model.size * model.cell + 40));
-    setBackground(Color.WHITE);
+    this.metrics = metrics;
+    setPreferredSize(new Dimension(model.size * model.cell, model.size * model.cell + 64));
+    setBackground(theme.tttBackground);
+  }
+
+  /**
+   * Marks a board cell as changed.
+   *
+   * @param r the row index
+   * @param c the column index
+   */
+  void markCell(int r, int c) {
+    dirty.add(c * model.cell, r * model.cell, model.cell, model.cell);
+  }
+
+  /**
+   * Marks the status lines below the board as changed.
+   */
+  void markStatus() {
+    int top = model.size * model.cell;
+    dirty.add(0, top, getWidth(), getHeight() - top);
+  }
+
+  /**
+   * Repaints the cells and the status lines marked since the last repaint.
+   */
+  void repaintMarked() {
+    dirty.paint();
   }
 
   @Override
   protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
+    long start = System.nanoTime();
     Graphics2D g2 = (Graphics2D) g;
-    g2.setStroke(new BasicStroke(4));
-    g2.setColor(Color.BLACK);
-    for (int i = 1; i < model.size; i++) {
-      g2.drawLine(0, i * model.cell, model.size * model.cell, i * model.cell);
-      g2.drawLine(i * model.cell, 0, i * model.cell, model.size * model.cell);
+    grid.draw(g2, getWidth(), getHeight());
+    TTTSnapshot s = model.snapshots.acquire();
+    if (s == null) {
+      return;
     }
+    g2.setStroke(theme.thickStroke);
     for (int r = 0; r < model.size; r++) {
       for (int c = 0; c < model.size; c++) {
         int x = c * model.cell, y = r * model.cell;
-        if (model.board[r][c] == 1) {
-          g2.setColor(new Color(200, 40, 40));
+        if (s.get(r, c) == 1) {
+          g2.setColor(theme.tttX);
           g2.drawLine(x + 20, y + 20, x + model.cell - 20, y + model.cell - 20);
           g2.drawLine(x + model.cell - 20, y + 20, x + 20, y + model.cell - 20);
-        } else if (model.board[r][c] == 2) {
-          g2.setColor(new Color(40, 100, 220));
+        } else if (s.get(r, c) == 2) {
+          g2.setColor(theme.tttO);
           g2.drawOval(x + 20, y + 20, model.cell - 40, model.cell - 40);
         }
       }
     }
-    g2.setColor(Color.DARK_GRAY);
-    g2.setFont(new Font("SansSerif", Font.BOLD, 18));
-    String msg = model.over ? "Game Over — R to reset" : (model.turn == 1 ? "X's turn" : "O's turn");
-    g2.drawString(msg + "   (ESC to Menu)", 10, model.size * model.cell + 28);
+    g2.setColor(theme.tttText);
+    g2.setFont(theme.statusFont);
+    String msg = s.over ? GAME_OVER : (s.current == 1 ? X_TURN : O_TURN);
+    g2.drawString(msg, 10, model.size * model.cell + 28);
+    if (TTTSolver.supports(model.board)) {
+      g2.setFont(theme.hintFont);
+      g2.drawString(s.vsAI ? AI_OPPONENT : HUMAN_OPPONENT, 10, model.size * model.cell + 52);
+    }
+    metrics.painted(start);
+  }
+
+  /**
+   * Paints the parts of the board that never change: the background and the grid lines.
+   */
+  private void paintGrid(Graphics2D g2, int width, int height) {
+    g2.setColor(getBackground());
+    g2.fillRect(0, 0, width, height);
+    g2.setStroke(theme.thickStroke);
+    g2.setColor(theme.tttGrid);
+    for (int i = 1; i < model.size; i++) {
+      g2.drawLine(0, i * model.cell, model.size * model.cell, i * model.cell);
+      g2.drawLine(i * model.cell, 0, i * model.cell, model.size * model.cell);
+    }
   }
 }
@@ -5,16 +5,24 @@ import java.awt.geom.RoundRectangle2D;
 
 import javax.swing.*;
 
+import GamingConsole.core.Theme;
+
 /**
  * GamingConsole.ui.GameCard is a custom JButton component designed to represent a card-styled UI
  * element. Each card contains a title, subtitle, and an icon that visually represents a type of
  * game. The card includes hover and click effects, gradient backgrounds, and rounded corners.
+ * Colours and fonts come from the shared {@link Theme}, and the gradients and the outline are
+ * kept between repaints, so hovering over a card allocates nothing.
  */
 class GameCard extends JButton {
   enum IconType {SNAKE, CONNECT4, TTT, PONG}
 
   private final String subtitle;
   private final IconType type;
+  private final Theme theme = Theme.DEFAULT;
+  private final RoundRectangle2D.Float outline = new RoundRectangle2D.Float();
+  private final GradientPaint[] fills = new GradientPaint[4];
+  private int fillHeight = -1;
 
   /**
    * Constructs a GamingConsole.ui.GameCard that represents a selectable card for a specific game.
@@ -31,8 +39,8 @@ class GameCard extends JButton {
     this.subtitle = subtitle;
     this.type = type;
     setHorizontalAlignment(LEFT);
-    setFont(new Font("SansSerif", Font.BOLD, 20));
-    setForeground(new Color(240, 242, 248));
+    setFont(theme.cardFont);
+    setForeground(theme.cardForeground);
     setContentAreaFilled(false);
     setFocusPainted(false);
     setBorderPainted(false);
@@ -52,18 +60,19 @@ class GameCard extends JButton {
     boolean hover = model.isRollover();
 
     int w = getWidth(), h = getHeight();
-    Color top = hover ? new Color(56, 96, 220) : new Color(42, 54, 88);
-    Color bottom = hover ? new Color(36, 70, 180) : new Color(32, 42, 70);
-    if (pressed) {
-      top = top.darker();
-      bottom = bottom.darker();
+    if (h != fillHeight) {
+      fillHeight = h;
+      fills[0] = new GradientPaint(0, 0, theme.cardTop, 0, h, theme.cardBottom);
+      fills[1] = new GradientPaint(0, 0, theme.cardHoverTop, 0, h, theme.cardHoverBottom);
+      fills[2] = new GradientPaint(0, 0, theme.cardPressedTop, 0, h, theme.cardPressedBottom);
+      fills[3] = new GradientPaint(0, 0, theme.cardHoverPressedTop, 0, h,
+              theme.cardHoverPressedBottom);
     }
-    GradientPaint gp = new GradientPaint(0, 0, top, 0, h, bottom);
-    g2.setPaint(gp);
-    RoundRectangle2D r = new RoundRectangle2D.Float(0, 0, w - 1, h - 1, 24, 24);
-    g2.fill(r);
-    g2.setColor(new Color(255, 255, 255, 40));
-    g2.draw(r);
+    g2.setPaint(fills[(hover ? 1 : 0) + (pressed ? 2 : 0)]);
+    outline.setRoundRect(0, 0, w - 1, h - 1, 24, 24);
+    g2.fill(outline);
+    g2.setColor(theme.cardOutline);
+    g2.draw(outline);
 
     int iconSize = 96;
     int padding = 18;
@@ -71,11 +80,11 @@ class GameCard extends JButton {
     int iconY = (h - iconSize) / 2;
     paintIcon(g2, iconX, iconY, iconSize, iconSize);
 
-    g2.setColor(new Color(250, 252, 255));
-    g2.setFont(getFont().deriveFont(Font.BOLD, 22f));
+    g2.setColor(theme.cardTitle);
+    g2.setFont(theme.cardTitleFont);
     g2.drawString(getText(), padding + 4, 54);
-    g2.setColor(new Color(210, 218, 230));
-    g2.setFont(new Font("SansSerif", Font.PLAIN, 14));
+    g2.setColor(theme.cardSubtitle);
+    g2.setFont(theme.cardSubtitleFont);
     g2.drawString(subtitle, padding + 4, 80);
   }
 
@@ -93,43 +102,43 @@ class GameCard extends JButton {
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
     switch (type) {
       case SNAKE:
-        g2.setColor(new Color(120, 220, 140));
+        g2.setColor(theme.cardIconSnake);
         int seg = 14;
         int cx = x + 8, cy = y + h / 2;
         for (int i = 0; i < 8; i++) {
           g2.fillRoundRect(cx + i * seg, cy + (int) (6 * Math.sin(i * 0.7)), 12, 12, 6, 6);
         }
-        g2.setColor(new Color(30, 30, 30));
+        g2.setColor(theme.cardIconEye);
         g2.fillOval(x + w - 92, y + 53, 6, 8);
         g2.fillOval(x + w - 92, y + 45, 6, 8);
         break;
       case CONNECT4:
-        g2.setColor(new Color(230, 230, 240));
+        g2.setColor(theme.cardIconBoard);
         g2.fillRoundRect(x + 6, y + 8, w - 12, h - 16, 14, 14);
         for (int r = 0; r < 3; r++)
           for (int c = 0; c < 3; c++) {
             int ox = x + 18 + c * 28, oy = y + 20 + r * 28;
-            g2.setColor((r + c) % 2 == 0 ? new Color(220, 60, 60) : new Color(240, 210, 60));
+            g2.setColor((r + c) % 2 == 0 ? theme.connect4Red : theme.connect4Yellow);
             g2.fillOval(ox, oy, 18, 18);
           }
         break;
       case TTT:
-        g2.setStroke(new BasicStroke(4f));
-        g2.setColor(new Color(240, 240, 250));
+        g2.setStroke(theme.thickStroke);
+        g2.setColor(theme.cardIconLight);
         int s = w - 20;
         int gx = x + 10, gy = y + 10;
         for (int i = 1; i <= 2; i++) {
           g2.drawLine(gx, gy + i * s / 3, gx + s, gy + i * s / 3);
           g2.drawLine(gx + i * s / 3, gy, gx + i * s / 3, gy + s);
         }
-        g2.setColor(new Color(200, 40, 40));
+        g2.setColor(theme.tttX);
         g2.drawLine(gx + 10, gy + 10, gx + s / 3 - 10, gy + s / 3 - 10);
         g2.drawLine(gx + s / 3 - 10, gy + 10, gx + 10, gy + s / 3 - 10);
-        g2.setColor(new Color(40, 100, 220));
+        g2.setColor(theme.tttO);
         g2.drawOval(gx + s / 3 + 10, gy + s / 3 + 10, s / 3 - 20, s / 3 - 20);
         break;
       case PONG:
-        g2.setColor(new Color(240, 240, 250));
+        g2.setColor(theme.cardIconLight);
         g2.drawRect(x + 12, y + 12, w - 24, h - 24);
         g2.fillRect(x + 18, y + h / 2 - 18, 8, 36);
         g2.fillRect(x + w - 26, y + h / 2 - 24, 8, 48);
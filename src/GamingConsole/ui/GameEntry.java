@@ -0,0 +1,109 @@
+package GamingConsole.ui;
+
+import javax.swing.*;
+
+import GamingConsole.core.GameFactory;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.GameModule;
+
+/**
+ * A game registered with the hub. The entry always carries the metadata the menu needs to
+ * present the game, while the game's MVC triple is only built when the game is first opened and
+ * may be released again once the game has been idle for a while. The game's metrics belong to
+ * the entry, so they keep accumulating when the game is released and built again.
+ */
+class GameEntry {
+  final String key;
+  final String title;
+  final String subtitle;
+  final GameCard.IconType icon;
+  final GameMetrics metrics;
+  private final GameFactory factory;
+
+  private GameModule module;
+  private JPanel card;
+  private boolean started = false;
+  private long lastUsed = 0;
+
+  /**
+   * Constructs a GameEntry for a game that has not been built yet.
+   *
+   * @param key      the card layout key of the game
+   * @param title    the title shown on the menu card and top bar
+   * @param subtitle the subtitle shown on the menu card
+   * @param icon     the icon drawn on the menu card
+   * @param factory  the factory building the game on first use
+   */
+  GameEntry(String key, String title, String subtitle, GameCard.IconType icon,
+            GameFactory factory) {
+    this.key = key;
+    this.title = title;
+    this.subtitle = subtitle;
+    this.icon = icon;
+    this.metrics = new GameMetrics(key);
+    this.factory = factory;
+  }
+
+  /**
+   * Builds the game if it is not loaded yet.
+   *
+   * @param onBack the action the game runs to return to the menu
+   * @return true if the game was built by this call, false if it was already loaded
+   */
+  boolean load(Runnable onBack) {
+    if (module != null) {
+      return false;
+    }
+    module = factory.create(onBack, metrics);
+    started = false;
+    return true;
+  }
+
+  /**
+   * Releases the game's model, view, controller and card so they can be garbage collected.
+   * The game must be suspended before it is unloaded; its controller is disposed here.
+   */
+  void unload() {
+    if (module != null) {
+      module.controller().dispose();
+    }
+    module = null;
+    card = null;
+    started = false;
+  }
+
+  boolean isLoaded() {
+    return module != null;
+  }
+
+  GameModule module() {
+    return module;
+  }
+
+  JPanel card() {
+    return card;
+  }
+
+  void setCard(JPanel card) {
+    this.card = card;
+  }
+
+  /**
+   * Marks the game as started.
+   *
+   * @return true if this is the first call since the game was loaded
+   */
+  boolean markStarted() {
+    boolean first = !started;
+    started = true;
+    return first;
+  }
+
+  long lastUsed() {
+    return lastUsed;
+  }
+
+  void touch(long now) {
+    lastUsed = now;
+  }
+}
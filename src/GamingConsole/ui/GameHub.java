@@ -2,11 +2,18 @@ package GamingConsole.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import GamingConsole.connect4.Connect4Controller;
 import GamingConsole.connect4.Connect4Model;
 import GamingConsole.connect4.Connect4View;
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.GameModule;
+import GamingConsole.core.MetricsDump;
 import GamingConsole.pong.PongController;
 import GamingConsole.pong.PongModel;
 import GamingConsole.pong.PongView;
@@ -25,38 +32,62 @@ import GamingConsole.ttt.TTTView;
  *
  * Features:
  * - Main menu interface for game selection.
- * - Integration of four different games with their corresponding controllers.
+ * - Registry of games whose controllers are built lazily on first open.
  * - Context-aware navigation using the CardLayout.
- * - Automatic game reset when switching between games for a fresh start.
+ * - Games start fresh on first open, are suspended while hidden and resume where they stopped.
  * - Fixed window size and positioning for a consistent user experience.
  * - Key binding support for seamless menu and game controls.
+ * - Timing metrics for every game: an overlay toggled with F3 or the Stats button, an MXBean per
+ *   game, and an optional periodic dump to a CSV or JSON lines file.
  */
 public class GameHub extends JFrame {
+  /**
+   * How long a hidden game may stay loaded before its MVC triple is released, in milliseconds.
+   * Eviction is disabled (0) unless the {@code gamehub.evictIdleMillis} system property is set.
+   */
+  private static final long EVICT_IDLE_MILLIS = Long.getLong("gamehub.evictIdleMillis", 0L);
+  /**
+   * Whether Snake and Pong render actively on their own threads instead of painting through
+   * Swing. Off unless the {@code gamehub.activeRendering} system property is {@code true}.
+   */
+  private static final boolean ACTIVE_RENDERING = Boolean.getBoolean("gamehub.activeRendering");
+  /**
+   * The file the metrics of every game are appended to periodically: CSV if the name ends in
+   * {@code .csv}, JSON lines otherwise. Not dumped unless the {@code gamehub.metricsDump} system
+   * property is set.
+   */
+  private static final String METRICS_DUMP = System.getProperty("gamehub.metricsDump");
+  /**
+   * How often the metrics are dumped, in milliseconds. Set with the
+   * {@code gamehub.metricsDumpMillis} system property; every 10 seconds by default.
+   */
+  private static final long METRICS_DUMP_MILLIS =
+          Long.getLong("gamehub.metricsDumpMillis", 10_000L);
+
   private final CardLayout cards = new CardLayout();
   private final JPanel root = new JPanel(cards);
-
-  private SnakeController snakeCtl;
-  private Connect4Controller c4Ctl;
-  private TTTController tttCtl;
-  private PongController pongCtl;
+  private final GameRegistry registry = new GameRegistry(EVICT_IDLE_MILLIS);
+  private final ButtonModel metricsShown = new JToggleButton.ToggleButtonModel();
+  private GameEntry showing;
 
   /**
    * Constructs the GamingConsole.ui.GameHub application window.
    *
    * This is the main entry point for the Game Hub which includes four games:
    * Snake, Connect 4, Tic-Tac-Toe, and Pong. The constructor initializes the
-   * JFrame properties, the main menu, and the individual game modules using
-   * the Model-View-Controller (MVC) pattern. It also sets up the navigation
+   * JFrame properties, registers each game with the game registry and builds
+   * the main menu from the registered games. It also sets up the navigation
    * routing between the main menu and the game screens.
    *
    * Components:
-   * - Initializes the main menu with options to launch each game.
-   * - Generates specific MVC components for each game:
+   * - Registers a factory for each game that builds its Model-View-Controller
+   *   components the first time the game is opened:
    *   - Snake: Includes a game board, view, and controller.
    *   - Connect 4: Sets up the gameplay grid, view, and controller.
    *   - Tic-Tac-Toe: Prepares the 3x3 game setup, view, and controller.
    *   - Pong: Establishes the game arena, view, and controller.
-   * - Adds all components to a card layout for navigation.
+   * - Initializes the main menu with options to launch each registered game.
+   * - Adds the menu to a card layout for navigation; game cards are added on demand.
    *
    */
   public GameHub() {
@@ -66,60 +97,99 @@ public class GameHub extends JFrame {
     setLocationRelativeTo(null);
     setResizable(false);
 
-    MenuView menu = new MenuView(
-            () -> open("snake"),
-            () -> open("c4"),
-            () -> open("ttt"),
-            () -> open("pong"));
-
-
-    SnakeModel snakeModel = new SnakeModel(30, 22, 25);
-    SnakeView snakeView = new SnakeView(snakeModel);
-    snakeCtl = new SnakeController(snakeModel, snakeView, this::openMenu);
+    registry.register("snake", "Snake", "Arcade classic", GameCard.IconType.SNAKE,
+            (onBack, metrics) -> {
+              SnakeModel model = new SnakeModel(30, 22, 25);
+              SnakeView view = new SnakeView(model, ACTIVE_RENDERING, metrics);
+              return new GameModule(view, new SnakeController(model, view, onBack));
+            });
+    registry.register("c4", "Connect 4", "Drop & align", GameCard.IconType.CONNECT4,
+            (onBack, metrics) -> {
+              Connect4Model model = new Connect4Model(7, 6, 90);
+              Connect4View view = new Connect4View(model, metrics);
+              return new GameModule(view, new Connect4Controller(model, view, onBack));
+            });
+    registry.register("ttt", "Tic-Tac-Toe", "Best of 3", GameCard.IconType.TTT,
+            (onBack, metrics) -> {
+              TTTModel model = new TTTModel(3, 150);
+              TTTView view = new TTTView(model, metrics);
+              return new GameModule(view, new TTTController(model, view, onBack));
+            });
+    registry.register("pong", "Pong", "Beat the AI", GameCard.IconType.PONG,
+            (onBack, metrics) -> {
+              PongModel model = new PongModel(800, 520);
+              PongView view = new PongView(model, ACTIVE_RENDERING, metrics);
+              return new GameModule(view, new PongController(model, view, onBack));
+            });
 
-    Connect4Model c4Model = new Connect4Model(7, 6, 90);
-    Connect4View c4View = new Connect4View(c4Model);
-    c4Ctl = new Connect4Controller(c4Model, c4View, this::openMenu);
-
-    TTTModel tttModel = new TTTModel(3, 150);
-    TTTView tttView = new TTTView(tttModel);
-    tttCtl = new TTTController(tttModel, tttView, this::openMenu);
-
-    PongModel pongModel = new PongModel(800, 520);
-    PongView pongView = new PongView(pongModel);
-    pongCtl = new PongController(pongModel, pongView, this::openMenu);
-
-    root.add(menu, "menu");
-    root.add(wrapWithTopBar("Snake", snakeView, this::openMenu), "snake");
-    root.add(wrapWithTopBar("Connect 4", c4View, this::openMenu), "c4");
-    root.add(wrapWithTopBar("Tic‑Tac‑Toe", tttView, this::openMenu), "ttt");
-    root.add(wrapWithTopBar("Pong", pongView, this::openMenu), "pong");
+    root.add(new MenuView(registry.games(), this::open), "menu");
+    installMetrics();
 
     add(root);
     openMenu();
   }
 
+  /**
+   * Publishes the metrics of every game over JMX, starts dumping them to a file if one is
+   * configured, and binds F3 to showing and hiding the metrics overlay. The overlay starts shown
+   * if the {@code gamehub.metricsOverlay} system property is {@code true}.
+   */
+  private void installMetrics() {
+    List<GameMetrics> metrics = registry.metrics();
+    MetricsDump.registerMBeans(metrics);
+    if (METRICS_DUMP != null) {
+      new MetricsDump(metrics, Paths.get(METRICS_DUMP)).start(METRICS_DUMP_MILLIS);
+    }
+    metricsShown.setSelected(Boolean.getBoolean("gamehub.metricsOverlay"));
+    JComponent pane = getRootPane();
+    pane.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+            .put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "metrics");
+    pane.getActionMap().put("metrics", new AbstractAction() {
+      public void actionPerformed(ActionEvent e) {
+        metricsShown.setSelected(!metricsShown.isSelected());
+      }
+    });
+  }
+
   /**
    * Creates a JPanel that wraps the provided center component with a top bar.
-   * The top bar includes a back button and a title.
+   * The top bar includes a back button, a title and a button toggling the metrics overlay,
+   * which is laid over the top right corner of the center component.
    *
    * @param title the title to be displayed in the top bar
    * @param center the main content component to be wrapped
+   * @param metrics the metrics of the game shown in the overlay
    * @param onBack a runnable action to be executed when the back button is clicked
    * @return a JPanel containing the top bar and the wrapped center component
    */
-  private JPanel wrapWithTopBar(String title, JComponent center, Runnable onBack) {
+  private JPanel wrapWithTopBar(String title, JComponent center, GameMetrics metrics,
+                                Runnable onBack) {
     JPanel container = new JPanel(new BorderLayout());
     JPanel top = new JPanel(new BorderLayout());
     JButton back = new JButton("◀ Back");
     back.addActionListener(e -> onBack.run());
     JLabel label = new JLabel("  " + title, SwingConstants.LEFT);
     label.setFont(label.getFont().deriveFont(Font.BOLD, 18f));
+    JToggleButton stats = new JToggleButton("Stats (F3)");
+    stats.setModel(metricsShown);
+    stats.setFocusable(false);
     top.add(back, BorderLayout.WEST);
     top.add(label, BorderLayout.CENTER);
+    top.add(stats, BorderLayout.EAST);
     top.setBorder(BorderFactory.createMatteBorder(0, 0, 1, 0, Color.LIGHT_GRAY));
+    MetricsOverlay overlay = new MetricsOverlay(metrics, metricsShown);
+    JLayeredPane layers = new JLayeredPane() {
+      @Override
+      public void doLayout() {
+        center.setBounds(0, 0, getWidth(), getHeight());
+        Dimension size = overlay.getPreferredSize();
+        overlay.setBounds(getWidth() - size.width - 8, 8, size.width, size.height);
+      }
+    };
+    layers.add(center, JLayeredPane.DEFAULT_LAYER);
+    layers.add(overlay, JLayeredPane.PALETTE_LAYER);
     container.add(top, BorderLayout.NORTH);
-    container.add(center, BorderLayout.CENTER);
+    container.add(layers, BorderLayout.CENTER);
     return container;
   }
 
@@ -135,34 +205,41 @@ public class GameHub extends JFrame {
   private void openMenu() { open("menu"); }
 
   /**
-   * Navigates to the view associated with the specified key and resets the corresponding game
-   * controller if applicable. This method switches the displayed view in a card layout while
-   * ensuring the focus is set correctly on the active view.
+   * Navigates to the view associated with the specified key and drives the lifecycle of the
+   * game controllers. A game is built and its card added the first time it is opened. The game
+   * being hidden is suspended; the game being shown is activated from a fresh state the first
+   * time it is opened and resumed from its saved state afterwards. Hidden games that have been
+   * idle past the eviction limit are released. This method switches the displayed view in a
+   * card layout while ensuring the focus is set correctly on the active view.
    *
-   * @param key the identifier for the view to be displayed. Valid keys include:
-   *            - "GamingConsole.snake": Switches to the Snake game and resets its controller.
-   *            - "c4": Switches to the Connect 4 game and resets its controller.
-   *            - "GamingConsole.ttt": Switches to the Tic-Tac-Toe game and resets its controller.
-   *            - "GamingConsole.pong": Switches to the Pong game and resets its controller.
-   *            - "menu": Switches to the main menu.
-   *            - Any other value does not perform any action.
+   * @param key the identifier for the view to be displayed: the key of a registered game
+   *            ("snake", "c4", "ttt", "pong") or "menu" for the main menu.
    */
   private void open(String key) {
-    switch (key) {
-      case "snake":
-        snakeCtl.reset();
-        break;
-      case "c4":
-        c4Ctl.reset();
-        break;
-      case "ttt":
-        tttCtl.reset();
-        break;
-      case "pong":
-        pongCtl.reset();
-        break;
-      default:
-        break;
+    GameEntry next = registry.get(key);
+    if (next != null && next.load(this::openMenu)) {
+      JPanel card = wrapWithTopBar(next.title, next.module().view(), next.metrics, this::openMenu);
+      next.setCard(card);
+      root.add(card, key);
+    }
+    long now = System.currentTimeMillis();
+    if (showing != null && showing != next) {
+      showing.module().controller().suspend();
+      showing.touch(now);
+    }
+    if (next != null && next != showing) {
+      if (next.markStarted()) {
+        next.module().controller().activate();
+      }
+      else {
+        next.module().controller().resume();
+      }
+      next.touch(now);
+    }
+    showing = next;
+    for (GameEntry idle : registry.idle(now, showing)) {
+      root.remove(idle.card());
+      idle.unload();
     }
     cards.show(root, key);
     SwingUtilities.invokeLater(() -> {
@@ -0,0 +1,103 @@
+package GamingConsole.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import GamingConsole.core.GameFactory;
+import GamingConsole.core.GameMetrics;
+
+/**
+ * Keeps the ordered list of games hosted by the hub.
+ * <p>
+ * Responsibilities:
+ * - Records each game's menu metadata and factory without building the game.
+ * - Looks games up by their card layout key.
+ * - Reports loaded games that have been idle longer than the configured limit so the hub can
+ *   release them. An idle limit of 0 keeps every loaded game for the lifetime of the hub.
+ */
+class GameRegistry {
+  private final Map<String, GameEntry> entries = new LinkedHashMap<>();
+  private final long idleLimitMillis;
+
+  /**
+   * Constructs an empty GameRegistry.
+   *
+   * @param idleLimitMillis how long a hidden game may stay loaded before it becomes eligible for
+   *                        eviction, or 0 to never evict
+   */
+  GameRegistry(long idleLimitMillis) {
+    this.idleLimitMillis = idleLimitMillis;
+  }
+
+  /**
+   * Registers a game. Games appear in the menu in registration order.
+   *
+   * @param key      the card layout key of the game
+   * @param title    the title shown on the menu card and top bar
+   * @param subtitle the subtitle shown on the menu card
+   * @param icon     the icon drawn on the menu card
+   * @param factory  the factory building the game on first use
+   */
+  void register(String key, String title, String subtitle, GameCard.IconType icon,
+                GameFactory factory) {
+    if (entries.containsKey(key)) {
+      throw new IllegalArgumentException("Game already registered: " + key);
+    }
+    entries.put(key, new GameEntry(key, title, subtitle, icon, factory));
+  }
+
+  /**
+   * Returns the game registered under the given key.
+   *
+   * @param key the card layout key
+   * @return the entry, or null if no game uses this key
+   */
+  GameEntry get(String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Returns every registered game in registration order.
+   *
+   * @return an unmodifiable list of the registered games
+   */
+  List<GameEntry> games() {
+    return Collections.unmodifiableList(new ArrayList<>(entries.values()));
+  }
+
+  /**
+   * Returns the metrics of every registered game in registration order.
+   *
+   * @return a list of the games' metrics
+   */
+  List<GameMetrics> metrics() {
+    List<GameMetrics> metrics = new ArrayList<>();
+    for (GameEntry e : entries.values()) {
+      metrics.add(e.metrics);
+    }
+    return metrics;
+  }
+
+  /**
+   * Collects the loaded games that have not been shown for longer than the idle limit.
+   *
+   * @param now     the current time in milliseconds
+   * @param showing the entry currently on screen, which is never reported
+   * @return the idle games, empty when eviction is disabled
+   */
+  List<GameEntry> idle(long now, GameEntry showing) {
+    List<GameEntry> idle = new ArrayList<>();
+    if (idleLimitMillis <= 0) {
+      return idle;
+    }
+    for (GameEntry e : entries.values()) {
+      if (e != showing && e.isLoaded() && now - e.lastUsed() > idleLimitMillis) {
+        idle.add(e);
+      }
+    }
+    return idle;
+  }
+}
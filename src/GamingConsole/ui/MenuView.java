@@ -2,35 +2,36 @@ package GamingConsole.ui;
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javax.swing.*;
 
+import GamingConsole.core.Theme;
+
 /**
  * The GamingConsole.ui.MenuView class extends JPanel and serves as the user interface for the game menu.
- * It provides a graphical menu allowing users to select from multiple games, including Snake,
- * Connect 4, Tic-Tac-Toe, and Pong. Each game can be accessed using buttons or keyboard shortcuts.
- * The UI incorporates custom rendering for a visually appealing layout.
+ * It provides a graphical menu allowing users to select from the games registered with the hub.
+ * Each game can be accessed using buttons or keyboard shortcuts.
+ * The UI incorporates custom rendering for a visually appealing layout, painted with the colours
+ * and fonts of the shared {@link Theme} and gradients that are kept until the size changes.
  */
 class MenuView extends JPanel {
-  private final Runnable onSnake;
-  private final Runnable onC4;
-  private final Runnable onTTT;
-  private final Runnable onPong;
+  private final Theme theme = Theme.DEFAULT;
+  private GradientPaint background;
+  private int backgroundHeight = -1;
 
   /**
    * Constructs the GamingConsole.ui.MenuView panel that serves as the main menu for the game hub,
    * displaying available game options and handling keyboard shortcuts to trigger game actions.
    *
-   * @param onSnake the action to be executed when the "Snake" game is selected
-   * @param onC4    the action to be executed when the "Connect 4" game is selected
-   * @param onTTT   the action to be executed when the "Tic-Tac-Toe" game is selected
-   * @param onPong  the action to be executed when the "Pong" game is selected
+   * Games are laid out two per row in registration order, and the first nine are bound to the
+   * number keys 1-9.
+   *
+   * @param games  the registered games to offer, in display order
+   * @param onOpen the action to be executed with a game's key when that game is selected
    */
-  public MenuView(Runnable onSnake, Runnable onC4, Runnable onTTT, Runnable onPong) {
-    this.onSnake = onSnake;
-    this.onC4 = onC4;
-    this.onTTT = onTTT;
-    this.onPong = onPong;
+  public MenuView(List<GameEntry> games, Consumer<String> onOpen) {
     setLayout(new BorderLayout());
     setOpaque(false);
 
@@ -42,11 +43,10 @@ class MenuView extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
                 RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         String title = "Games Suite";
-        Font f = getFont().deriveFont(Font.BOLD, 44f);
-        g2.setFont(f);
-        g2.setColor(new Color(0, 0, 0, 60));
+        g2.setFont(theme.menuTitleFont);
+        g2.setColor(theme.menuTitleShadow);
         g2.drawString(title, 41, getHeight() - 16);
-        g2.setColor(new Color(245, 245, 250));
+        g2.setColor(theme.menuTitle);
         g2.drawString(title, 40, getHeight() - 17);
       }
     };
@@ -56,20 +56,30 @@ class MenuView extends JPanel {
     add(titleWrap, BorderLayout.NORTH);
 
     JPanel grid = new JPanel(new GridBagLayout()) {
+      private GradientPaint shade;
+      private RadialGradientPaint glow;
+      private int paintWidth = -1;
+      private int paintHeight = -1;
+
       @Override
       protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        GradientPaint gp = new GradientPaint(0, 0, new Color(18, 22, 30), 0,
-                getHeight(), new Color(28, 34, 46));
-        g2.setPaint(gp);
+        if (getWidth() != paintWidth || getHeight() != paintHeight) {
+          paintWidth = getWidth();
+          paintHeight = getHeight();
+          shade = new GradientPaint(0, 0, theme.menuGridTop, 0, paintHeight,
+                  theme.menuGridBottom);
+          glow = new RadialGradientPaint(
+                  new Point(paintWidth / 2, paintHeight / 2),
+                  Math.max(paintWidth, paintHeight),
+                  new float[]{0f, 1f},
+                  new Color[]{theme.menuGlow, theme.menuVignette});
+        }
+        g2.setPaint(shade);
         g2.fillRect(0, 0, getWidth(), getHeight());
-        g2.setPaint(new RadialGradientPaint(
-                new Point(getWidth() / 2, getHeight() / 2),
-                Math.max(getWidth(), getHeight()),
-                new float[]{0f, 1f},
-                new Color[]{new Color(255, 255, 255, 20), new Color(0, 0, 0, 40)}));
+        g2.setPaint(glow);
         g2.fillRect(0, 0, getWidth(), getHeight());
       }
     };
@@ -78,62 +88,38 @@ class MenuView extends JPanel {
     GridBagConstraints c = new GridBagConstraints();
     c.insets = new Insets(16, 16, 16, 16);
 
-    GameCard snake = new GameCard("Snake", "Arcade classic", GameCard.IconType.SNAKE, onSnake);
-    GameCard connect4 = new GameCard("Connect 4", "Drop & align", GameCard.IconType.CONNECT4, onC4);
-    GameCard ttt = new GameCard("Tic-Tac-Toe", "Best of 3", GameCard.IconType.TTT, onTTT);
-    GameCard pong = new GameCard("Pong", "Beat the AI", GameCard.IconType.PONG, onPong);
-
-    c.gridx = 0;
-    c.gridy = 0;
-    grid.add(snake, c);
-    c.gridx = 1;
-    c.gridy = 0;
-    grid.add(connect4, c);
-    c.gridx = 0;
-    c.gridy = 1;
-    grid.add(ttt, c);
-    c.gridx = 1;
-    c.gridy = 1;
-    grid.add(pong, c);
+    StringBuilder quickKeys = new StringBuilder("Quick keys:");
+    InputMap im = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+    ActionMap am = getActionMap();
+    for (int i = 0; i < games.size(); i++) {
+      GameEntry game = games.get(i);
+      Runnable open = () -> onOpen.accept(game.key);
+      c.gridx = i % 2;
+      c.gridy = i / 2;
+      grid.add(new GameCard(game.title, game.subtitle, game.icon, open), c);
+      if (i < 9) {
+        char digit = (char) ('1' + i);
+        quickKeys.append("  ").append(digit).append('=').append(game.title);
+        im.put(KeyStroke.getKeyStroke(digit), game.key);
+        am.put(game.key, new AbstractAction() {
+          public void actionPerformed(ActionEvent e) {
+            open.run();
+          }
+        });
+      }
+    }
 
     add(grid, BorderLayout.CENTER);
 
     JTextArea help = new JTextArea(
-            "Quick keys: 1=Snake  2=Connect4  3=TTT  4=Pong    •    ESC exits a game to this menu\n"
+            quickKeys + "    •    ESC exits a game to this menu\n"
                     + "Reset inside games with R. Use Arrow keys/WASD where applicable.");
     help.setEditable(false);
     help.setOpaque(false);
-    help.setForeground(new Color(220, 225, 230));
-    help.setFont(new Font("Monospaced", Font.PLAIN, 13));
+    help.setForeground(theme.menuHelp);
+    help.setFont(theme.menuHelpFont);
     help.setBorder(BorderFactory.createEmptyBorder(0, 40, 16, 40));
     add(help, BorderLayout.SOUTH);
-
-    InputMap im = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
-    ActionMap am = getActionMap();
-    im.put(KeyStroke.getKeyStroke('1'), "s");
-    am.put("s", new AbstractAction() {
-      public void actionPerformed(ActionEvent e) {
-        onSnake.run();
-      }
-    });
-    im.put(KeyStroke.getKeyStroke('2'), "c4");
-    am.put("c4", new AbstractAction() {
-      public void actionPerformed(ActionEvent e) {
-        onC4.run();
-      }
-    });
-    im.put(KeyStroke.getKeyStroke('3'), "t");
-    am.put("t", new AbstractAction() {
-      public void actionPerformed(ActionEvent e) {
-        onTTT.run();
-      }
-    });
-    im.put(KeyStroke.getKeyStroke('4'), "p");
-    am.put("p", new AbstractAction() {
-      public void actionPerformed(ActionEvent e) {
-        onPong.run();
-      }
-    });
   }
 
   @Override
@@ -141,9 +127,11 @@ class MenuView extends JPanel {
     super.paintComponent(g);
     Graphics2D g2 = (Graphics2D) g;
     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-    GradientPaint gp = new GradientPaint(0, 0, new Color(12, 16, 24), 0,
-            getHeight(), new Color(18, 22, 32));
-    g2.setPaint(gp);
+    if (getHeight() != backgroundHeight) {
+      backgroundHeight = getHeight();
+      background = new GradientPaint(0, 0, theme.menuTop, 0, backgroundHeight, theme.menuBottom);
+    }
+    g2.setPaint(background);
     g2.fillRect(0, 0, getWidth(), getHeight());
   }
 }
@@ -0,0 +1,103 @@
+package GamingConsole.ui;
+
+import java.awt.*;
+
+import javax.swing.*;
+import javax.swing.event.ChangeListener;
+
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.LatencySummary;
+import GamingConsole.core.Theme;
+
+/**
+ * Panel laid over a game that shows the game's {@link GameMetrics}: the median, 99th percentile
+ * and maximum of its tick, paint and input-to-photon times, and the number of dropped frames.
+ * <p>
+ * Features:
+ * - Shown while a shared toggle is selected, so switching it on or off applies to every game.
+ * - Refreshes four times a second while shown and does no work at all while hidden.
+ * - Registers no mouse listeners, so clicks on the game below reach the game.
+ */
+class MetricsOverlay extends JComponent {
+  private static final String HEADER = "           p50     p99     max  ms";
+
+  private final GameMetrics metrics;
+  private final ButtonModel toggle;
+  private final ChangeListener onToggle = e -> update();
+  private final Timer refresh = new Timer(250, e -> repaint());
+  private final Theme theme = Theme.DEFAULT;
+
+  /**
+   * Constructs a MetricsOverlay.
+   *
+   * @param metrics the metrics to show
+   * @param toggle  the toggle that shows and hides the overlays of all games
+   */
+  MetricsOverlay(GameMetrics metrics, ButtonModel toggle) {
+    this.metrics = metrics;
+    this.toggle = toggle;
+    setFont(theme.smallMonoFont);
+    setVisible(false);
+  }
+
+  @Override
+  public void addNotify() {
+    super.addNotify();
+    toggle.addChangeListener(onToggle);
+    update();
+  }
+
+  @Override
+  public void removeNotify() {
+    toggle.removeChangeListener(onToggle);
+    refresh.stop();
+    super.removeNotify();
+  }
+
+  private void update() {
+    boolean on = toggle.isSelected();
+    if (on != isVisible()) {
+      setVisible(on);
+    }
+    if (on) {
+      refresh.start();
+    }
+    else {
+      refresh.stop();
+    }
+  }
+
+  @Override
+  public Dimension getPreferredSize() {
+    FontMetrics fm = getFontMetrics(getFont());
+    return new Dimension(fm.stringWidth(HEADER) + 16, fm.getHeight() * 5 + 12);
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    Graphics2D g2 = (Graphics2D) g;
+    g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g2.setColor(theme.metricsBackground);
+    g2.fillRoundRect(0, 0, getWidth(), getHeight(), 10, 10);
+    g2.setFont(getFont());
+    FontMetrics fm = g2.getFontMetrics();
+    int line = fm.getHeight();
+    int y = 6 + fm.getAscent();
+    g2.setColor(theme.metricsText);
+    g2.drawString(HEADER, 8, y);
+    g2.drawString(row("tick", metrics.getTick()), 8, y + line);
+    g2.drawString(row("paint", metrics.getPaint()), 8, y + line * 2);
+    g2.drawString(row("input", metrics.getInputToPhoton()), 8, y + line * 3);
+    long dropped = metrics.getDroppedFrames();
+    g2.setColor(dropped > 0 ? theme.metricsWarning : theme.metricsText);
+    g2.drawString("dropped frames " + dropped, 8, y + line * 4);
+  }
+
+  private static String row(String name, LatencySummary s) {
+    if (s.getCount() == 0) {
+      return String.format("%-6s      -       -       -", name);
+    }
+    return String.format("%-6s %7.2f %7.2f %7.2f", name, s.getP50Micros() / 1000.0,
+            s.getP99Micros() / 1000.0, s.getMaxMicros() / 1000.0);
+  }
+}
@@ -0,0 +1,109 @@
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import GamingConsole.connect4.Connect4Board;
+
+/**
+ * Provides unit tests for the Connect4Board bitboard engine. This class
+ * validates dropping and undoing pieces, win detection in all four
+ * directions, full-board detection and position keys.
+ */
+public class Connect4BoardTests {
+
+  private Connect4Board board;
+
+  @Before
+  public void setUp() {
+    board = new Connect4Board(7, 6);
+  }
+
+  /**
+   * Plays a sequence of columns, alternating players starting with player 1.
+   * @param cols the columns to drop into
+   */
+  private void playAll(int... cols) {
+    for (int c : cols) {
+      assertNotEquals(-1, board.play(c));
+    }
+  }
+
+  @Test
+  public void testDropLandsOnLowestFreeRow() {
+    assertEquals(5, board.play(3));
+    assertEquals(4, board.play(3));
+    assertEquals(1, board.cell(5, 3));
+    assertEquals(2, board.cell(4, 3));
+    assertEquals(0, board.cell(3, 3));
+    assertEquals(1, board.current());
+  }
+
+  @Test
+  public void testFullColumnRejected() {
+    playAll(0, 0, 0, 0, 0, 0);
+    assertFalse(board.canPlay(0));
+    assertEquals(-1, board.play(0));
+    assertEquals(-1, board.play(7));
+    assertEquals(-1, board.play(-1));
+  }
+
+  @Test
+  public void testHorizontalWin() {
+    playAll(0, 0, 1, 1, 2, 2);
+    assertFalse(board.lastMoveWon());
+    playAll(3);
+    assertTrue(board.lastMoveWon());
+  }
+
+  @Test
+  public void testVerticalWin() {
+    playAll(4, 5, 4, 5, 4, 5);
+    assertFalse(board.lastMoveWon());
+    playAll(4);
+    assertTrue(board.lastMoveWon());
+  }
+
+  @Test
+  public void testDiagonalWins() {
+    playAll(0, 1, 1, 2, 2, 3, 2, 3, 3, 6);
+    assertFalse(board.lastMoveWon());
+    playAll(3);
+    assertTrue(board.lastMoveWon());
+
+    board.reset();
+    playAll(6, 5, 5, 4, 4, 3, 4, 3, 3, 0);
+    assertFalse(board.lastMoveWon());
+    playAll(3);
+    assertTrue(board.lastMoveWon());
+  }
+
+  @Test
+  public void testNoWinAcrossColumnBoundary() {
+    // player 1 holds the top three cells of column 0 and the bottom cell of column 1
+    playAll(6, 0, 5, 0, 6, 0, 0, 5, 0, 6, 0, 4, 1);
+    assertFalse(board.lastMoveWon());
+  }
+
+  @Test
+  public void testUndoRestoresPosition() {
+    playAll(3, 2);
+    long key = board.key();
+    playAll(4);
+    assertNotEquals(key, board.key());
+    assertEquals(4, board.undo());
+    assertEquals(key, board.key());
+    assertEquals(0, board.cell(5, 4));
+    assertEquals(1, board.current());
+  }
+
+  @Test
+  public void testFullBoard() {
+    for (int c = 0; c < 7; c++) {
+      assertFalse(board.isFull());
+      for (int i = 0; i < 6; i++) {
+        board.play(c);
+      }
+    }
+    assertTrue(board.isFull());
+  }
+}
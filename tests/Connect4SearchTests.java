@@ -0,0 +1,117 @@
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import GamingConsole.connect4.Connect4Board;
+import GamingConsole.connect4.Connect4Search;
+
+/**
+ * Provides unit tests for the Connect4Search. This class validates
+ * that the search takes immediate wins, blocks immediate losses,
+ * respects its node budget and its cancel flag, is no weaker with more
+ * threads, and leaves the caller's board untouched.
+ */
+public class Connect4SearchTests {
+
+  private Connect4Board board;
+  private Connect4Search search;
+
+  @Before
+  public void setUp() {
+    board = new Connect4Board(7, 6);
+    search = new Connect4Search(16);
+  }
+
+  private void playAll(int... cols) {
+    for (int c : cols) {
+      board.play(c);
+    }
+  }
+
+  @Test
+  public void testTakesImmediateWin() {
+    playAll(0, 6, 1, 6, 2, 5);
+    assertEquals(3, search.bestMove(board, 10_000, 0));
+  }
+
+  @Test
+  public void testBlocksImmediateLoss() {
+    playAll(0, 6, 1, 6, 2);
+    assertEquals(3, search.bestMove(board, 50_000, 0));
+  }
+
+  @Test
+  public void testFindsForcedWinWithinBudget() {
+    // red threatens both ends of an open three on the bottom row
+    playAll(2, 2, 3, 3);
+    int move = search.bestMove(board, 200_000, 0);
+    assertTrue(move == 1 || move == 4);
+    assertTrue(search.bestScore() > Connect4Search.WIN - 42);
+  }
+
+  @Test
+  public void testMoreThreadsAreNoWeakerAtSameBudget() {
+    playAll(2, 2, 3, 3);
+    search.bestMove(board, 200_000, 0);
+    int singleDepth = search.depthReached();
+    try (Connect4Search parallel = new Connect4Search(16, 4)) {
+      int move = parallel.bestMove(board, 200_000, 0);
+      assertTrue(move == 1 || move == 4);
+      assertTrue(parallel.bestScore() > Connect4Search.WIN - 42);
+      assertTrue(parallel.depthReached() >= singleDepth);
+
+      Connect4Board empty = new Connect4Board(7, 6);
+      search.bestMove(empty, 200_000, 0);
+      parallel.bestMove(empty, 200_000, 0);
+      assertTrue(parallel.depthReached() >= search.depthReached());
+      assertTrue(parallel.threadNodes()[0] < 200_000 + 1024);
+    }
+  }
+
+  @Test
+  public void testRespectsNodeBudget() {
+    search.bestMove(board, 5_000, 0);
+    assertTrue(search.nodes() < 5_000 + 1024);
+  }
+
+  @Test
+  public void testDoesNotModifyPosition() {
+    playAll(3, 3, 4);
+    long key = board.key();
+    search.bestMove(board, 20_000, 0);
+    assertEquals(key, board.key());
+    assertEquals(3, board.moveCount());
+  }
+
+  @Test
+  public void testCancelledBeforeStartReturnsAtOnce() {
+    AtomicBoolean cancel = new AtomicBoolean(true);
+    assertEquals(3, search.bestMove(board, 0, 0, cancel));
+    assertEquals(0, search.nodes());
+  }
+
+  @Test
+  public void testCancelEndsRunningSearchOnly() throws Exception {
+    AtomicBoolean cancel = new AtomicBoolean();
+    Thread canceller = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      cancel.set(true);
+    });
+    canceller.start();
+    long start = System.nanoTime();
+    int move = search.bestMove(board, 0, 60_000, cancel);
+    canceller.join();
+    assertTrue((System.nanoTime() - start) / 1_000_000 < 10_000);
+    assertTrue(board.canPlay(move));
+
+    search.bestMove(board, 5_000, 0);
+    assertTrue("a later search runs its budget", search.nodes() >= 5_000);
+  }
+}
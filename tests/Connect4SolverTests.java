@@ -0,0 +1,127 @@
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import GamingConsole.connect4.Connect4Board;
+import GamingConsole.connect4.Connect4Solver;
+import GamingConsole.connect4.OpeningBook;
+import GamingConsole.connect4.OpeningBookGenerator;
+
+/**
+ * Provides unit tests for the Connect4Solver and OpeningBook. This class
+ * checks solved scores against a plain exhaustive minimax on a small board
+ * and validates that a generated book file is read back correctly.
+ */
+public class Connect4SolverTests {
+
+  private Connect4Solver solver;
+
+  @Before
+  public void setUp() {
+    solver = new Connect4Solver(16);
+  }
+
+  /**
+   * Computes a position's score by trying every move to the end of the game.
+   * @param b the position, in which nobody has won yet
+   * @return the score in the solver's convention
+   */
+  private static int minimax(Connect4Board b) {
+    int cells = b.cols() * b.rows();
+    if (b.isFull()) {
+      return 0;
+    }
+    for (int c = 0; c < b.cols(); c++) {
+      if (b.canPlay(c) && b.isWinningMove(c)) {
+        return (cells + 1 - b.moveCount()) / 2;
+      }
+    }
+    int best = -cells;
+    for (int c = 0; c < b.cols(); c++) {
+      if (b.canPlay(c)) {
+        b.play(c);
+        best = Math.max(best, -minimax(b));
+        b.undo();
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Plays random non-winning moves.
+   * @param b the board to play on
+   * @param n the number of moves to play
+   * @param r the random source
+   * @return true if all moves could be played without ending the game
+   */
+  private static boolean randomMoves(Connect4Board b, int n, Random r) {
+    for (int i = 0; i < n; i++) {
+      int c = r.nextInt(b.cols());
+      if (!b.canPlay(c) || b.isWinningMove(c)) {
+        return false;
+      }
+      b.play(c);
+    }
+    return !b.isFull();
+  }
+
+  @Test
+  public void testMatchesExhaustiveMinimax() {
+    Random r = new Random(42);
+    int checked = 0;
+    while (checked < 30) {
+      Connect4Board b = new Connect4Board(5, 4);
+      if (!randomMoves(b, 10, r)) {
+        continue;
+      }
+      assertEquals(minimax(b), solver.solve(b));
+      checked++;
+    }
+  }
+
+  @Test
+  public void testImmediateWinScore() {
+    Connect4Board b = new Connect4Board(7, 6);
+    for (int c : new int[]{0, 6, 1, 6, 2, 6}) {
+      b.play(c);
+    }
+    assertEquals((42 + 1 - 6) / 2, solver.solve(b));
+    assertEquals(3, solver.bestMove(b));
+  }
+
+  @Test
+  public void testBookRoundTrip() throws Exception {
+    File file = File.createTempFile("c4book", ".bin");
+    file.deleteOnExit();
+    try (OutputStream out = new FileOutputStream(file)) {
+      new OpeningBookGenerator(3, solver).generate(new Connect4Board(5, 4), out);
+    }
+
+    OpeningBook book = new OpeningBook(file.toPath());
+    Connect4Board b = new Connect4Board(5, 4);
+    assertEquals(solver.solve(b), book.score(b));
+    b.play(0);
+    b.play(2);
+    assertEquals(solver.solve(b), book.score(b));
+    Connect4Board mirrored = new Connect4Board(5, 4);
+    mirrored.play(4);
+    mirrored.play(2);
+    assertEquals(book.score(b), book.score(mirrored));
+    b.play(4);
+    b.play(1);
+    assertEquals(OpeningBook.MISSING, book.score(b));
+    assertEquals(OpeningBook.MISSING, book.score(new Connect4Board(7, 6)));
+  }
+
+  @Test
+  public void testMissingBookFileMisses() {
+    OpeningBook book = new OpeningBook(new File("no-such-book.bin").toPath());
+    assertEquals(OpeningBook.MISSING, book.score(new Connect4Board(7, 6)));
+    assertEquals(-1, book.bestMove(new Connect4Board(7, 6)));
+  }
+}
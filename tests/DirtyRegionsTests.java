@@ -0,0 +1,98 @@
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.*;
+
+import GamingConsole.core.DirtyRegions;
+
+/**
+ * Provides unit tests for DirtyRegions. This class validates that
+ * distant regions are painted separately, that touching regions are
+ * merged, that the region count stays bounded and that marking the whole
+ * view falls back to a regular repaint.
+ */
+public class DirtyRegionsTests {
+
+  private final List<Rectangle> painted = new ArrayList<>();
+  private int fullRepaints;
+  private JPanel view;
+  private DirtyRegions dirty;
+
+  @Before
+  public void setUp() {
+    view = new JPanel() {
+      @Override
+      public void paintImmediately(int x, int y, int w, int h) {
+        painted.add(new Rectangle(x, y, w, h));
+      }
+
+      @Override
+      public void repaint() {
+        fullRepaints++;
+      }
+    };
+    view.setSize(800, 600);
+    dirty = new DirtyRegions(view);
+    fullRepaints = 0;
+  }
+
+  private void paintOnEdt() throws Exception {
+    SwingUtilities.invokeAndWait(dirty::paint);
+  }
+
+  @Test
+  public void testDistantRegionsStaySeparate() throws Exception {
+    dirty.add(0, 0, 10, 10);
+    dirty.add(700, 500, 10, 10);
+    paintOnEdt();
+    assertEquals(2, painted.size());
+    assertTrue(painted.contains(new Rectangle(0, 0, 10, 10)));
+    assertTrue(painted.contains(new Rectangle(700, 500, 10, 10)));
+  }
+
+  @Test
+  public void testTouchingRegionsMerge() throws Exception {
+    dirty.add(100, 100, 20, 20);
+    dirty.add(120, 100, 20, 20);
+    dirty.add(105, 105, 5, 5);
+    paintOnEdt();
+    assertEquals(1, painted.size());
+    assertEquals(new Rectangle(100, 100, 40, 20), painted.get(0));
+
+    painted.clear();
+    paintOnEdt();
+    assertTrue(painted.isEmpty());
+  }
+
+  @Test
+  public void testRegionCountIsBounded() throws Exception {
+    for (int i = 0; i < 50; i++) {
+      dirty.add(i * 16, (i * 37) % 580, 4, 4);
+    }
+    paintOnEdt();
+    assertTrue(painted.size() <= 8);
+    for (int i = 0; i < 50; i++) {
+      Rectangle cell = new Rectangle(i * 16, (i * 37) % 580, 4, 4);
+      boolean covered = false;
+      for (Rectangle r : painted) {
+        covered |= r.contains(cell);
+      }
+      assertTrue(covered);
+    }
+  }
+
+  @Test
+  public void testAddAllRepaintsWholeView() throws Exception {
+    dirty.add(0, 0, 10, 10);
+    dirty.addAll();
+    dirty.add(50, 50, 10, 10);
+    paintOnEdt();
+    assertEquals(1, fullRepaints);
+    assertTrue(painted.isEmpty());
+  }
+}
@@ -0,0 +1,138 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import GamingConsole.core.GameMetrics;
+import GamingConsole.core.LatencyHistogram;
+import GamingConsole.core.MetricsDump;
+
+/**
+ * Provides unit tests for the timing metrics. This class validates the
+ * percentiles and maximum of LatencyHistogram, the dropped frame and
+ * input-to-photon accounting of GameMetrics, and the JMX and file exports
+ * of MetricsDump.
+ */
+public class GameMetricsTests {
+
+  @Test
+  public void testSmallValuesAreExact() {
+    LatencyHistogram h = new LatencyHistogram();
+    for (int micros = 1; micros <= 100; micros++) {
+      h.record(micros * 1000L);
+    }
+    assertEquals(100, h.count());
+    assertEquals(50, h.percentileMicros(0.5));
+    assertEquals(99, h.percentileMicros(0.99));
+    assertEquals(100, h.maxMicros());
+  }
+
+  @Test
+  public void testLargeValuesAreWithinRelativeError() {
+    long[] values = {129, 1_000, 4_321, 77_777, 1_234_567, 45_000_000};
+    for (long v : values) {
+      LatencyHistogram h = new LatencyHistogram();
+      h.record(v * 1000);
+      h.record(2 * v * 1000); // keeps the maximum from capping the reading
+      long p = h.percentileMicros(0.5);
+      assertTrue(v + " read as " + p, p >= v && p <= v + v / 64);
+    }
+  }
+
+  @Test
+  public void testResetDiscardsEverything() {
+    LatencyHistogram h = new LatencyHistogram();
+    h.record(5_000_000);
+    h.reset();
+    assertEquals(0, h.count());
+    assertEquals(0, h.maxMicros());
+    assertEquals(0, h.percentileMicros(0.99));
+  }
+
+  @Test
+  public void testLateFramesCountAsDropped() {
+    GameMetrics m = new GameMetrics("test");
+    long period = 10_000_000;
+    m.frame(1_000, period);
+    m.frame(1_000 + period, period);
+    m.frame(1_000 + period * 5 / 2, period); // 1.5 periods late: 1 dropped
+    m.frame(1_000 + period * 6, period); // 3.5 periods: 3 dropped, rounded up
+    assertEquals(4, m.getDroppedFrames());
+
+    m.startFrames();
+    m.frame(1_000 + period * 100, period);
+    assertEquals("a pause is not a drop", 4, m.getDroppedFrames());
+  }
+
+  @Test
+  public void testInputIsTimedUntilPaintAfterPublish() throws Exception {
+    GameMetrics m = new GameMetrics("test");
+    m.input();
+    m.painted(System.nanoTime());
+    assertEquals("not yet published", 0, m.getInputToPhoton().getCount());
+
+    m.published();
+    Thread.sleep(5);
+    m.painted(System.nanoTime());
+    assertEquals(1, m.getInputToPhoton().getCount());
+    assertTrue(m.getInputToPhoton().getMaxMicros() >= 5_000);
+    assertEquals(2, m.getPaint().getCount());
+
+    m.painted(System.nanoTime());
+    assertEquals("timed only once", 1, m.getInputToPhoton().getCount());
+  }
+
+  @Test
+  public void testMetricsArePublishedOverJmx() throws Exception {
+    GameMetrics m = new GameMetrics("jmxtest");
+    m.ticked(System.nanoTime() - 2_000_000);
+    MetricsDump.registerMBeans(Collections.singletonList(m));
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("GamingConsole:type=GameMetrics,name=jmxtest");
+    CompositeData tick = (CompositeData) server.getAttribute(name, "Tick");
+    assertEquals(1L, tick.get("count"));
+    assertTrue((Long) tick.get("maxMicros") >= 2_000);
+    server.invoke(name, "reset", null, null);
+    assertEquals(0, m.getTick().getCount());
+    server.unregisterMBean(name);
+  }
+
+  @Test
+  public void testDumpAppendsCsvRowsAndJsonLines() throws Exception {
+    GameMetrics a = new GameMetrics("a");
+    GameMetrics b = new GameMetrics("b");
+    a.ticked(System.nanoTime());
+    List<GameMetrics> games = Arrays.asList(a, b);
+    Path dir = Files.createTempDirectory("metrics");
+
+    Path csv = dir.resolve("metrics.csv");
+    MetricsDump csvDump = new MetricsDump(games, csv);
+    csvDump.write();
+    csvDump.write();
+    List<String> rows = Files.readAllLines(csv, StandardCharsets.UTF_8);
+    assertEquals(1 + 2 * 2 * 3, rows.size());
+    assertTrue(rows.get(0).startsWith("timestamp,game,metric,"));
+    assertTrue(rows.get(1).contains(",a,tick,1,"));
+
+    Path json = dir.resolve("metrics.jsonl");
+    new MetricsDump(games, json).write();
+    List<String> lines = Files.readAllLines(json, StandardCharsets.UTF_8);
+    assertEquals(2, lines.size());
+    assertTrue(lines.get(0).contains("\"game\":\"a\",\"tick\":{\"count\":1,"));
+    assertTrue(lines.get(1).endsWith(",\"droppedFrames\":0}"));
+
+    Files.delete(csv);
+    Files.delete(json);
+    Files.delete(dir);
+  }
+}
@@ -0,0 +1,136 @@
+package GamingConsole.pong;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Provides unit tests for the Pong simulation. This class validates that
+ * the swept collision bounces balls off the paddles however fast they
+ * travel, including where a paddle meets a wall, that only headless
+ * matches speed the ball up on paddle hits, and that the computer
+ * player's intercept is where the ball actually arrives.
+ */
+public class PongModelTests {
+
+  private static PongModel model(int width, long seed) {
+    PongModel model = new PongModel(width, 520, seed);
+    model.aiL = null;
+    model.inputL = 0;
+    return model;
+  }
+
+  /**
+   * Aims a ball at a paddle from a random distance, in a straight line that meets the paddle's
+   * face, and steps until it comes back.
+   */
+  private static void fireAt(PongModel model, PongModel.Paddle p, int side, Random random) {
+    double speed = 1_000 + random.nextDouble() * 299_000;
+    double slope = (2 * random.nextDouble() - 1) * 0.2;
+    double face = side > 0 ? p.x + p.width : p.x - PongModel.BALL;
+    double distance = 50 + random.nextDouble() * 300;
+    double arrival = p.y + random.nextDouble() * (p.height - PongModel.BALL);
+    model.ballX[0] = face + side * distance;
+    model.ballY[0] = arrival - slope * distance;
+    model.vx[0] = -side * speed;
+    model.vy[0] = slope * speed;
+    int scoreL = model.scoreL;
+    int scoreR = model.scoreR;
+
+    for (int steps = 0; model.vx[0] * side < 0; steps++) {
+      assertTrue("ball never arrived", steps < 100);
+      model.step();
+      assertEquals("ball passed the paddle at " + speed + " px/s",
+              side > 0 ? scoreR : scoreL, side > 0 ? model.scoreR : model.scoreL);
+    }
+  }
+
+  @Test
+  public void testFastBallsBounceOffBothPaddles() {
+    Random random = new Random(42);
+    // wide enough that a bounced ball cannot reach the other paddle within the same step
+    PongModel model = model(40_000, 42);
+    model.aiR = new PongAI(PongAI.Difficulty.PERFECT);
+    for (int shot = 0; shot < 2_000; shot++) {
+      model.serve();
+      fireAt(model, model.paddleL, 1, random);
+      model.serve();
+      fireAt(model, model.paddleR, -1, random);
+    }
+  }
+
+  @Test
+  public void testBallBouncesOffWallIntoPaddleCorner() {
+    double[] speeds = {6_000, 60_000, 300_000};
+    for (double speed : speeds) {
+      for (int corner = 0; corner < 2; corner++) {
+        PongModel model = model(800, 7);
+        PongModel.Paddle p = model.paddleL;
+        boolean top = corner == 0;
+        p.y = top ? PongModel.WALL : model.Height - PongModel.WALL - p.height;
+        double face = p.x + p.width;
+        model.ballX[0] = face + 30;
+        model.ballY[0] = top ? PongModel.WALL + 5
+                : model.Height - PongModel.WALL - PongModel.BALL - 5;
+        model.vx[0] = -speed;
+        model.vy[0] = top ? -speed / 2 : speed / 2;
+
+        model.step();
+        assertTrue("ball passed the paddle at " + speed + " px/s", model.vx[0] > 0);
+        assertEquals(0, model.scoreR);
+        assertTrue(model.ballY[0] >= PongModel.WALL);
+        assertTrue(model.ballY[0] <= model.Height - PongModel.WALL - PongModel.BALL);
+      }
+    }
+  }
+
+  @Test
+  public void testOnlyMatchesSpeedUpOnPaddleHits() {
+    double[] factors = {1, PongMatch.SPEEDUP};
+    for (double factor : factors) {
+      PongModel model = model(800, 5);
+      model.speedup = factor;
+      PongModel.Paddle p = model.paddleL;
+      model.ballX[0] = p.x + p.width + 20;
+      model.ballY[0] = p.y + p.height / 2.0 - PongModel.BALL / 2.0;
+      model.vx[0] = -PongModel.SERVE_VX;
+      model.vy[0] = 0;
+      while (model.vx[0] < 0) {
+        model.step();
+      }
+      assertEquals(PongModel.SERVE_VX * factor, model.vx[0], 1e-9);
+    }
+  }
+
+  @Test
+  public void testInterceptMatchesArrival() {
+    Random random = new Random(3);
+    int checked = 0;
+    for (int game = 0; game < 100; game++) {
+      PongModel model = model(800, game);
+      model.aiL = new PongAI(PongAI.Difficulty.PERFECT);
+      model.aiR = new PongAI(PongAI.Difficulty.PERFECT);
+      model.ballY[0] = PongModel.WALL + random.nextDouble()
+              * (model.Height - 2 * PongModel.WALL - PongModel.BALL);
+      model.vx[0] = (random.nextBoolean() ? 1 : -1) * (200 + random.nextDouble() * 400);
+      model.vy[0] = (2 * random.nextDouble() - 1) * 600;
+      int side = model.vx[0] > 0 ? -1 : 1;
+      PongModel.Paddle p = side > 0 ? model.paddleL : model.paddleR;
+      double target = PongAI.intercept(model, p, side, 0);
+      if (target < PongModel.WALL || target > model.Height - PongModel.WALL - p.height) {
+        continue; // the paddle cannot centre itself on a ball arriving that close to a wall
+      }
+
+      double speedY = Math.abs(model.vy[0]);
+      while (model.vx[0] * side < 0) {
+        model.step();
+      }
+      assertEquals("paddle did not go to the intercept", target, p.y, 1e-6);
+      assertEquals("ball did not arrive at the intercept", speedY, Math.abs(model.vy[0]),
+              PongModel.SPIN * 0.5);
+      checked++;
+    }
+    assertTrue(checked > 50);
+  }
+}
@@ -0,0 +1,111 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import GamingConsole.ttt.MNKBoard;
+
+/**
+ * Provides unit tests for the MNKBoard m,n,k game engine. This class
+ * validates win detection for every line direction and win length,
+ * occupied and out-of-range cells, full-board detection and undo.
+ */
+public class MNKBoardTests {
+
+  /**
+   * Places marks at (row, col) pairs, alternating players starting with X.
+   * @param board the board to play on
+   * @param cells row and column of each move
+   */
+  private void playAll(MNKBoard board, int... cells) {
+    for (int i = 0; i < cells.length; i += 2) {
+      assertTrue(board.place(cells[i], cells[i + 1]));
+    }
+  }
+
+  @Test
+  public void testClassicLines() {
+    MNKBoard board = new MNKBoard(3, 3, 3);
+    playAll(board, 1, 0, 0, 0, 1, 1, 0, 1);
+    assertFalse(board.lastMoveWon());
+    playAll(board, 1, 2);
+    assertTrue(board.lastMoveWon());
+    assertEquals(1, board.winner());
+
+    board.reset();
+    playAll(board, 0, 2, 0, 0, 1, 1, 0, 1);
+    playAll(board, 2, 0);
+    assertEquals(1, board.winner());
+
+    board.reset();
+    playAll(board, 0, 1, 0, 0, 0, 2, 1, 1, 2, 1);
+    assertFalse(board.lastMoveWon());
+    playAll(board, 2, 2);
+    assertEquals(2, board.winner());
+  }
+
+  @Test
+  public void testGapsDoNotCount() {
+    MNKBoard board = new MNKBoard(9, 1, 3);
+    playAll(board, 0, 0, 0, 8, 0, 1, 0, 6, 0, 3);
+    assertFalse(board.lastMoveWon());
+    playAll(board, 0, 5);
+    assertFalse(board.lastMoveWon());
+    // X fills the gap between 0,1 and 3
+    playAll(board, 0, 2);
+    assertTrue(board.lastMoveWon());
+  }
+
+  @Test
+  public void testGomokuFiveInARow() {
+    MNKBoard board = new MNKBoard(15, 15, 5);
+    for (int i = 0; i < 4; i++) {
+      playAll(board, 3 + i, 10 - i, 0, i);
+    }
+    assertFalse(board.lastMoveWon());
+    playAll(board, 7, 6);
+    assertTrue(board.lastMoveWon());
+    assertEquals(1, board.winner());
+  }
+
+  @Test
+  public void testRejectsOccupiedAndOutsideCells() {
+    MNKBoard board = new MNKBoard(4, 3, 3);
+    assertTrue(board.place(2, 3));
+    assertFalse(board.place(2, 3));
+    assertFalse(board.place(3, 0));
+    assertFalse(board.place(0, 4));
+    assertFalse(board.place(-1, 0));
+    assertEquals(1, board.moveCount());
+    assertEquals(2, board.current());
+  }
+
+  @Test
+  public void testFullBoardIsMoveCount() {
+    MNKBoard board = new MNKBoard(3, 3, 3);
+    playAll(board, 0, 0, 0, 1, 0, 2, 1, 1, 1, 0, 1, 2, 2, 1, 2, 0);
+    assertFalse(board.isFull());
+    playAll(board, 2, 2);
+    assertTrue(board.isFull());
+    assertFalse(board.lastMoveWon());
+  }
+
+  @Test
+  public void testUndoRestoresRuns() {
+    MNKBoard board = new MNKBoard(5, 5, 4);
+    playAll(board, 2, 0, 0, 0, 2, 1, 0, 1, 2, 3, 0, 3);
+    playAll(board, 2, 2);
+    assertTrue(board.lastMoveWon());
+    assertTrue(board.undo());
+    assertFalse(board.lastMoveWon());
+    assertEquals(0, board.get(2, 2));
+    assertEquals(1, board.current());
+    // O now completes its own row instead; X's split runs must not have leaked into it
+    playAll(board, 4, 4, 0, 2);
+    assertTrue(board.lastMoveWon());
+    assertEquals(2, board.winner());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsZeroWinLength() {
+    new MNKBoard(3, 3, 0);
+  }
+}
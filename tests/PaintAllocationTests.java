@@ -0,0 +1,246 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.lang.management.ManagementFactory;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import javax.swing.*;
+
+import GamingConsole.connect4.Connect4Model;
+import GamingConsole.connect4.Connect4View;
+import GamingConsole.pong.PongModel;
+import GamingConsole.pong.PongView;
+import GamingConsole.snake.SnakeModel;
+import GamingConsole.snake.SnakeView;
+import GamingConsole.ttt.TTTModel;
+import GamingConsole.ttt.TTTView;
+
+/**
+ * Provides allocation-profiling tests for the game views. This class
+ * validates that once a view has painted its first frames, painting
+ * further frames of an unchanged game allocates nothing, as measured by
+ * the JVM's per-thread allocation counter.
+ * <p>
+ * Frames are painted into a graphics context that only records what it
+ * is given, so the measurement covers the views' own paint code and not
+ * the allocations Java2D makes while rasterizing. Like Java2D's, it hands
+ * out a copy of its transform and a new context from create(), so a view
+ * that asks for either is caught allocating. Each view's paintComponent is
+ * called directly, as Swing's own paint creates a context for every
+ * component it paints.
+ * <p>
+ * The result is the least allocated in a few windows of frames. An
+ * allocation made by a frame shows in every window, while the JIT can
+ * allocate once on the painting thread when it swaps compiled code late,
+ * which happens on machines with few cores.
+ */
+public class PaintAllocationTests {
+
+  private static final int WARMUP_FRAMES = 20_000;
+  private static final int FRAMES = 2_000;
+  private static final int WINDOWS = 5;
+
+  private static long allocatedPerFrames(JComponent view) {
+    view.setSize(view.getPreferredSize());
+    RecordingGraphics g = new RecordingGraphics();
+    for (int i = 0; i < WARMUP_FRAMES; i++) {
+      view.paint(g);
+    }
+    com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long id = Thread.currentThread().getId();
+    threads.getThreadAllocatedBytes(id);
+    long least = Long.MAX_VALUE;
+    for (int window = 0; window < WINDOWS && least > 0; window++) {
+      long before = threads.getThreadAllocatedBytes(id);
+      for (int i = 0; i < FRAMES; i++) {
+        view.paint(g);
+      }
+      least = Math.min(least, threads.getThreadAllocatedBytes(id) - before);
+    }
+    assertTrue("frames should draw text", g.strings[0] > 0);
+    return least;
+  }
+
+  @Test
+  public void testSnakeFramesAllocateNothing() {
+    assertEquals(0, allocatedPerFrames(new SnakeView(new SnakeModel(30, 22, 24)) {
+      @Override
+      public void paint(Graphics g) {
+        paintComponent(g);
+      }
+    }));
+  }
+
+  @Test
+  public void testConnect4FramesAllocateNothing() {
+    assertEquals(0, allocatedPerFrames(new Connect4View(new Connect4Model(7, 6, 80)) {
+      @Override
+      public void paint(Graphics g) {
+        paintComponent(g);
+      }
+    }));
+  }
+
+  @Test
+  public void testTTTFramesAllocateNothing() {
+    assertEquals(0, allocatedPerFrames(new TTTView(new TTTModel(3, 120)) {
+      @Override
+      public void paint(Graphics g) {
+        paintComponent(g);
+      }
+    }));
+  }
+
+  @Test
+  public void testPongFramesAllocateNothing() {
+    assertEquals(0, allocatedPerFrames(new PongView(new PongModel(800, 500)) {
+      @Override
+      public void paint(Graphics g) {
+        paintComponent(g);
+      }
+    }));
+  }
+
+  /**
+   * Graphics context that keeps the state and the last text it is given and draws nothing.
+   * Its device is an off-screen image, so static layers are rendered into buffered images.
+   */
+  private static final class RecordingGraphics extends Graphics2D {
+    private final Graphics2D device;
+    private final AffineTransform transform;
+    private final int[] strings;
+    private Color color = Color.BLACK;
+    private Color background = Color.BLACK;
+    private Paint paint = Color.BLACK;
+    private Font font = new Font("Dialog", Font.PLAIN, 12);
+    private Stroke stroke = new BasicStroke();
+    private Composite composite = AlphaComposite.SrcOver;
+    private Shape shape;
+    private String text;
+
+    RecordingGraphics() {
+      device = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB).createGraphics();
+      transform = new AffineTransform();
+      strings = new int[1];
+    }
+
+    private RecordingGraphics(RecordingGraphics g) {
+      device = g.device;
+      transform = new AffineTransform(g.transform);
+      strings = g.strings;
+      color = g.color;
+      background = g.background;
+      paint = g.paint;
+      font = g.font;
+      stroke = g.stroke;
+      composite = g.composite;
+    }
+
+    @Override public Graphics create() { return new RecordingGraphics(this); }
+    @Override public void dispose() { }
+    @Override public Color getColor() { return color; }
+    @Override public void setColor(Color c) { color = c; paint = c; }
+    @Override public void setPaintMode() { }
+    @Override public void setXORMode(Color c) { }
+    @Override public Font getFont() { return font; }
+    @Override public void setFont(Font f) { font = f; }
+    @Override public FontMetrics getFontMetrics(Font f) { return device.getFontMetrics(f); }
+    @Override public Rectangle getClipBounds() { return null; }
+    @Override public void clipRect(int x, int y, int w, int h) { }
+    @Override public void setClip(int x, int y, int w, int h) { }
+    @Override public Shape getClip() { return null; }
+    @Override public void setClip(Shape clip) { }
+    @Override public void copyArea(int x, int y, int w, int h, int dx, int dy) { }
+    @Override public void drawLine(int x1, int y1, int x2, int y2) { }
+    @Override public void fillRect(int x, int y, int w, int h) { }
+    @Override public void clearRect(int x, int y, int w, int h) { }
+    @Override public void drawRoundRect(int x, int y, int w, int h, int aw, int ah) { }
+    @Override public void fillRoundRect(int x, int y, int w, int h, int aw, int ah) { }
+    @Override public void drawOval(int x, int y, int w, int h) { }
+    @Override public void fillOval(int x, int y, int w, int h) { }
+    @Override public void drawArc(int x, int y, int w, int h, int start, int arc) { }
+    @Override public void fillArc(int x, int y, int w, int h, int start, int arc) { }
+    @Override public void drawPolyline(int[] xs, int[] ys, int n) { }
+    @Override public void drawPolygon(int[] xs, int[] ys, int n) { }
+    @Override public void fillPolygon(int[] xs, int[] ys, int n) { }
+    @Override public boolean drawImage(Image img, int x, int y, ImageObserver o) { return true; }
+    @Override public boolean drawImage(Image img, int x, int y, int w, int h, ImageObserver o) {
+      return true;
+    }
+    @Override public boolean drawImage(Image img, int x, int y, Color bg, ImageObserver o) {
+      return true;
+    }
+    @Override public boolean drawImage(Image img, int x, int y, int w, int h, Color bg,
+                                       ImageObserver o) {
+      return true;
+    }
+    @Override public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1,
+                                       int sy1, int sx2, int sy2, ImageObserver o) {
+      return true;
+    }
+    @Override public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1,
+                                       int sy1, int sx2, int sy2, Color bg, ImageObserver o) {
+      return true;
+    }
+    @Override public boolean drawImage(Image img, AffineTransform xform, ImageObserver o) {
+      return true;
+    }
+    @Override public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) { }
+    @Override public void drawRenderedImage(RenderedImage img, AffineTransform xform) { }
+    @Override public void drawRenderableImage(RenderableImage img, AffineTransform xform) { }
+    @Override public void drawString(String s, int x, int y) { text = s; strings[0]++; }
+    @Override public void drawString(String s, float x, float y) { text = s; strings[0]++; }
+    @Override public void drawString(AttributedCharacterIterator it, int x, int y) {
+      strings[0]++;
+    }
+    @Override public void drawString(AttributedCharacterIterator it, float x, float y) {
+      strings[0]++;
+    }
+    @Override public void drawGlyphVector(GlyphVector gv, float x, float y) { }
+    @Override public void draw(Shape s) { shape = s; }
+    @Override public void fill(Shape s) { shape = s; }
+    @Override public boolean hit(Rectangle rect, Shape s, boolean onStroke) { return false; }
+    @Override public GraphicsConfiguration getDeviceConfiguration() {
+      return device.getDeviceConfiguration();
+    }
+    @Override public void setComposite(Composite comp) { composite = comp; }
+    @Override public Composite getComposite() { return composite; }
+    @Override public void setPaint(Paint p) { paint = p; }
+    @Override public Paint getPaint() { return paint; }
+    @Override public void setStroke(Stroke s) { stroke = s; }
+    @Override public Stroke getStroke() { return stroke; }
+    @Override public void setRenderingHint(RenderingHints.Key key, Object value) { }
+    @Override public Object getRenderingHint(RenderingHints.Key key) { return null; }
+    @Override public void setRenderingHints(Map<?, ?> hints) { }
+    @Override public void addRenderingHints(Map<?, ?> hints) { }
+    @Override public RenderingHints getRenderingHints() { return device.getRenderingHints(); }
+    @Override public void translate(int x, int y) { transform.translate(x, y); }
+    @Override public void translate(double tx, double ty) { transform.translate(tx, ty); }
+    @Override public void rotate(double theta) { transform.rotate(theta); }
+    @Override public void rotate(double theta, double x, double y) {
+      transform.rotate(theta, x, y);
+    }
+    @Override public void scale(double sx, double sy) { transform.scale(sx, sy); }
+    @Override public void shear(double shx, double shy) { transform.shear(shx, shy); }
+    @Override public void transform(AffineTransform tx) { transform.concatenate(tx); }
+    @Override public void setTransform(AffineTransform tx) { transform.setTransform(tx); }
+    @Override public AffineTransform getTransform() { return new AffineTransform(transform); }
+    @Override public void setBackground(Color c) { background = c; }
+    @Override public Color getBackground() { return background; }
+    @Override public void clip(Shape s) { }
+    @Override public FontRenderContext getFontRenderContext() {
+      return device.getFontRenderContext();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import GamingConsole.snake.AStarPolicy;
+import GamingConsole.snake.HamiltonianPolicy;
+import GamingConsole.snake.SnakeEngine;
+import GamingConsole.snake.SnakeEngine.Direction;
+import GamingConsole.snake.SnakePolicy;
+
+/**
+ * Provides unit tests for the Snake autopilot policies. This class
+ * validates that the Hamiltonian cycle and the A* policy fill the board
+ * on even and odd sized wrapping boards, and that the A* policy only asks
+ * for moves into free cells.
+ */
+public class SnakeAutopilotTests {
+
+  /**
+   * Plays one game with a policy.
+   * @param policy the policy to steer with
+   * @param engine the game to play
+   * @return the number of steps played
+   */
+  private long play(SnakePolicy policy, SnakeEngine engine) {
+    long limit = 100L * engine.cols() * engine.rows() * engine.cols() * engine.rows();
+    while (engine.alive() && !engine.won() && engine.steps() < limit) {
+      engine.step(policy.choose(engine));
+    }
+    return engine.steps();
+  }
+
+  @Test
+  public void testHamiltonianFillsBoard() {
+    SnakePolicy policy = new HamiltonianPolicy();
+    for (int[] size : new int[][] {{10, 10}, {11, 7}, {12, 5}}) {
+      SnakeEngine engine = new SnakeEngine(size[0], size[1], 5);
+      play(policy, engine);
+      assertTrue(engine.won());
+      assertEquals(size[0] * size[1], engine.length());
+    }
+  }
+
+  @Test
+  public void testAStarFillsBoardFasterThanCycle() {
+    SnakePolicy astar = new AStarPolicy();
+    SnakePolicy cycle = new HamiltonianPolicy();
+    for (long seed = 1; seed <= 5; seed++) {
+      SnakeEngine a = new SnakeEngine(12, 11, seed);
+      SnakeEngine h = new SnakeEngine(12, 11, seed);
+      long aSteps = play(astar, a);
+      long hSteps = play(cycle, h);
+      assertTrue(a.won());
+      assertTrue(aSteps < hSteps);
+    }
+  }
+
+  @Test
+  public void testAStarMovesIntoFreeCells() {
+    SnakePolicy policy = new AStarPolicy();
+    SnakeEngine engine = new SnakeEngine(16, 16, 11);
+    while (engine.alive() && !engine.won()) {
+      Direction d = policy.choose(engine);
+      assertNotNull(d);
+      assertNotEquals(engine.direction().opposite(), d);
+      int next = engine.neighbor(engine.segment(0), d);
+      assertFalse(engine.isOccupied(next % 16, next / 16));
+      engine.step(d);
+    }
+    assertTrue(engine.won());
+  }
+}
@@ -0,0 +1,120 @@
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import GamingConsole.snake.SnakeEngine;
+import GamingConsole.snake.SnakeEngine.Direction;
+
+/**
+ * Provides unit tests for the headless SnakeEngine. This class validates
+ * the starting position, movement with wrapping, reversal protection,
+ * self-collision, growth, winning on a full board, deterministic replays
+ * and continuing the game of another engine.
+ */
+public class SnakeEngineTests {
+
+  private SnakeEngine engine;
+
+  @Before
+  public void setUp() {
+    engine = new SnakeEngine(20, 10, 7);
+  }
+
+  @Test
+  public void testStartingPosition() {
+    assertEquals(SnakeEngine.START_LENGTH, engine.length());
+    assertEquals(5 * 20 + 10, engine.segment(0));
+    assertEquals(5 * 20 + 6, engine.segment(4));
+    assertEquals(Direction.RIGHT, engine.direction());
+    assertTrue(engine.alive());
+    assertFalse(engine.isOccupied(engine.food() % 20, engine.food() / 20));
+    assertEquals(20 * 10 - SnakeEngine.START_LENGTH, engine.freeCells());
+  }
+
+  @Test
+  public void testWrapsAroundEdges() {
+    engine.turn(Direction.UP);
+    for (int i = 0; i < 6; i++) {
+      engine.step();
+    }
+    assertTrue(engine.alive());
+    assertEquals(9 * 20 + 10, engine.segment(0));
+  }
+
+  @Test
+  public void testReversalIgnored() {
+    assertFalse(engine.turn(Direction.LEFT));
+    assertEquals(Direction.RIGHT, engine.direction());
+    assertTrue(engine.step());
+    assertEquals(5 * 20 + 11, engine.segment(0));
+  }
+
+  @Test
+  public void testRunningIntoBodyEndsGame() {
+    // a length-5 snake turning in a tight square bites its own tail segment
+    Direction[] square = {Direction.DOWN, Direction.LEFT, Direction.UP};
+    assertEquals(3, engine.run(square, 10));
+    assertFalse(engine.alive());
+    assertFalse(engine.step());
+  }
+
+  @Test
+  public void testFillingBoardWins() {
+    SnakeEngine small = new SnakeEngine(8, 1, 3);
+    int played = small.run(new Direction[0], 1000);
+    assertTrue(small.won());
+    assertEquals(8, small.length());
+    assertEquals(0, small.freeCells());
+    assertTrue(played < 1000);
+  }
+
+  @Test
+  public void testSameSeedAndInputsReplayIdentically() {
+    Direction[] inputs = new Direction[5000];
+    Direction[] dirs = Direction.values();
+    Random r = new Random(99);
+    for (int i = 0; i < inputs.length; i++) {
+      inputs[i] = r.nextInt(4) == 0 ? dirs[r.nextInt(4)] : null;
+    }
+    SnakeEngine a = new SnakeEngine(30, 22, 1234);
+    SnakeEngine b = new SnakeEngine(30, 22, 1234);
+    assertEquals(a.run(inputs, inputs.length), b.run(inputs, inputs.length));
+    assertEquals(a.length(), b.length());
+    assertEquals(a.food(), b.food());
+    for (int i = 0; i < a.length(); i++) {
+      assertEquals(a.segment(i), b.segment(i));
+    }
+  }
+
+  @Test
+  public void testCopyContinuesSameGame() {
+    engine.turn(Direction.DOWN);
+    engine.run(new Direction[0], 3);
+    SnakeEngine copy = new SnakeEngine(20, 10, 99);
+    copy.copyFrom(engine);
+    assertEquals(engine.length(), copy.length());
+    assertEquals(engine.food(), copy.food());
+    assertEquals(engine.freeCells(), copy.freeCells());
+    assertEquals(engine.direction(), copy.direction());
+    for (int i = 0; i < engine.length(); i++) {
+      assertEquals(engine.segment(i), copy.segment(i));
+    }
+
+    engine.step(Direction.RIGHT);
+    copy.step(Direction.RIGHT);
+    assertEquals(engine.segment(0), copy.segment(0));
+    assertEquals(engine.segment(engine.length() - 1), copy.segment(copy.length() - 1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCopyRejectsOtherBoardSize() {
+    new SnakeEngine(30, 22, 1).copyFrom(engine);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsTinyBoard() {
+    new SnakeEngine(4, 4, 0);
+  }
+}
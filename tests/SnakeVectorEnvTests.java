@@ -0,0 +1,124 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import GamingConsole.snake.SnakeEngine;
+import GamingConsole.snake.SnakeEngine.Direction;
+import GamingConsole.snake.SnakeVectorEnv;
+
+/**
+ * Provides unit tests for the batched SnakeVectorEnv. This class validates
+ * the starting observations, agreement of the moves with SnakeEngine,
+ * rewards and automatic restarts, and that the results do not depend on
+ * the number of threads.
+ */
+public class SnakeVectorEnvTests {
+
+  @Test
+  public void testStartingObservation() {
+    SnakeVectorEnv env = new SnakeVectorEnv(3, 20, 10, 5);
+    ByteBuffer obs = ByteBuffer.allocateDirect(env.observationSize());
+    env.observe(obs);
+    assertEquals(env.observationSize(), obs.position());
+    for (int e = 0; e < 3; e++) {
+      int base = e * 200;
+      assertEquals(SnakeVectorEnv.HEAD, obs.get(base + 5 * 20 + 10));
+      assertEquals(SnakeVectorEnv.BODY, obs.get(base + 5 * 20 + 6));
+      assertEquals(SnakeVectorEnv.FOOD, obs.get(base + env.food(e)));
+      int filled = 0;
+      for (int i = 0; i < 200; i++) {
+        filled += obs.get(base + i) != SnakeVectorEnv.EMPTY ? 1 : 0;
+      }
+      assertEquals(SnakeEngine.START_LENGTH + 1, filled);
+    }
+  }
+
+  @Test
+  public void testMovesMatchEngine() {
+    SnakeVectorEnv env = new SnakeVectorEnv(1, 20, 10, 5);
+    SnakeEngine engine = new SnakeEngine(20, 10, 5);
+    int[] actions = new int[1];
+    float[] rewards = new float[1];
+    boolean[] dones = new boolean[1];
+    Direction[] moves = {Direction.UP, Direction.LEFT, null, Direction.DOWN, Direction.RIGHT};
+    for (int t = 0; t < 40; t++) {
+      Direction d = moves[t % moves.length];
+      actions[0] = d == null ? -1 : d.ordinal();
+      env.step(actions, rewards, dones);
+      engine.step(d);
+      if (dones[0] || env.length(0) != engine.length()) {
+        break; // the food generators differ, so the games part once either snake eats
+      }
+      assertEquals(engine.segment(0), env.segment(0, 0));
+      assertEquals(engine.segment(engine.length() - 1), env.segment(0, env.length(0) - 1));
+    }
+  }
+
+  @Test
+  public void testRewardsAndRestart() {
+    SnakeVectorEnv env = new SnakeVectorEnv(1, 20, 10, 5);
+    int[] actions = new int[1];
+    float[] rewards = new float[1];
+    boolean[] dones = new boolean[1];
+    int[] square = {Direction.DOWN.ordinal(), Direction.LEFT.ordinal(), Direction.UP.ordinal()};
+    for (int t = 0; t < 3; t++) {
+      actions[0] = square[t];
+      env.step(actions, rewards, dones);
+    }
+    // a length-5 snake turning in a tight square bites its own tail segment
+    assertTrue(dones[0]);
+    assertEquals(-1f, rewards[0], 0f);
+    assertEquals(SnakeEngine.START_LENGTH, env.length(0));
+    assertEquals(0, env.episodeSteps(0));
+    assertEquals(5 * 20 + 10, env.segment(0, 0));
+
+    SnakeVectorEnv small = new SnakeVectorEnv(1, 8, 1, 3);
+    actions[0] = -1;
+    dones[0] = false;
+    float total = 0;
+    for (int t = 0; t < 100 && !dones[0]; t++) {
+      small.step(actions, rewards, dones);
+      total += rewards[0];
+    }
+    assertTrue(dones[0]);
+    assertEquals(8 - SnakeEngine.START_LENGTH, total, 0f);
+  }
+
+  @Test
+  public void testThreadsDoNotChangeResults() {
+    int envs = 2000;
+    SnakeVectorEnv single = new SnakeVectorEnv(envs, 12, 9, 77, 1);
+    SnakeVectorEnv parallel = new SnakeVectorEnv(envs, 12, 9, 77, 4);
+    int[] actions = new int[envs];
+    float[] rewards1 = new float[envs];
+    float[] rewards2 = new float[envs];
+    boolean[] dones1 = new boolean[envs];
+    boolean[] dones2 = new boolean[envs];
+    Random r = new Random(8);
+    for (int t = 0; t < 200; t++) {
+      for (int e = 0; e < envs; e++) {
+        actions[e] = r.nextInt(6) - 1;
+      }
+      single.step(actions, rewards1, dones1);
+      parallel.step(actions, rewards2, dones2);
+      assertArrayEquals(rewards1, rewards2, 0f);
+      assertArrayEquals(dones1, dones2);
+    }
+    FloatBuffer obs1 = FloatBuffer.allocate(single.observationSize());
+    FloatBuffer obs2 = ByteBuffer.allocateDirect(4 * parallel.observationSize()).asFloatBuffer();
+    single.observe(obs1);
+    parallel.observe(obs2);
+    obs1.flip();
+    obs2.flip();
+    assertEquals(obs1, obs2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsShortActionArray() {
+    SnakeVectorEnv env = new SnakeVectorEnv(4, 20, 10, 5);
+    env.step(new int[3], new float[4], new boolean[4]);
+  }
+}
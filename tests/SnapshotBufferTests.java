@@ -0,0 +1,88 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import GamingConsole.core.SnapshotBuffer;
+
+/**
+ * Provides unit tests for SnapshotBuffer. This class validates that the
+ * reader sees nothing before the first publish and the newest snapshot
+ * after it, that the writer never fills the snapshot the reader holds,
+ * and that a reader racing a writer never sees a half-written snapshot.
+ */
+public class SnapshotBufferTests {
+
+  @Test
+  public void testNothingToReadBeforeFirstPublish() {
+    SnapshotBuffer<int[]> buffer = new SnapshotBuffer<>(() -> new int[1]);
+    assertNull(buffer.acquire());
+  }
+
+  @Test
+  public void testReaderGetsNewestSnapshot() {
+    SnapshotBuffer<int[]> buffer = new SnapshotBuffer<>(() -> new int[1]);
+    for (int i = 1; i <= 5; i++) {
+      buffer.back()[0] = i;
+      buffer.publish();
+    }
+    assertEquals(5, buffer.acquire()[0]);
+  }
+
+  @Test
+  public void testReaderKeepsSnapshotUntilNextPublish() {
+    SnapshotBuffer<int[]> buffer = new SnapshotBuffer<>(() -> new int[1]);
+    buffer.back()[0] = 1;
+    buffer.publish();
+    int[] held = buffer.acquire();
+    assertSame(held, buffer.acquire());
+
+    for (int i = 2; i <= 4; i++) {
+      int[] next = buffer.back();
+      assertNotSame("the writer must not fill the snapshot being read", held, next);
+      next[0] = i;
+      buffer.publish();
+    }
+    assertEquals(1, held[0]);
+    assertEquals(4, buffer.acquire()[0]);
+  }
+
+  @Test
+  public void testConcurrentReaderSeesWholeSnapshots() throws Exception {
+    SnapshotBuffer<long[]> buffer = new SnapshotBuffer<>(() -> new long[64]);
+    AtomicReference<String> failure = new AtomicReference<>();
+    Thread writer = new Thread(() -> {
+      for (long v = 1; v <= 2_000_000; v++) {
+        java.util.Arrays.fill(buffer.back(), v);
+        buffer.publish();
+      }
+    });
+    Thread reader = new Thread(() -> {
+      long last = 0;
+      while (writer.isAlive()) {
+        long[] s = buffer.acquire();
+        if (s == null) {
+          continue;
+        }
+        for (long x : s) {
+          if (x != s[0]) {
+            failure.compareAndSet(null, "torn snapshot: " + s[0] + " and " + x);
+          }
+        }
+        if (s[0] < last) {
+          failure.compareAndSet(null, "went back from " + last + " to " + s[0]);
+        }
+        last = s[0];
+      }
+      long[] s = buffer.acquire();
+      if (s[0] != 2_000_000) {
+        failure.compareAndSet(null, "last snapshot lost, reader ended at " + s[0]);
+      }
+    });
+    writer.start();
+    reader.start();
+    writer.join();
+    reader.join();
+    assertNull(failure.get(), failure.get());
+  }
+}
@@ -0,0 +1,76 @@
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import GamingConsole.ttt.MNKBoard;
+import GamingConsole.ttt.TTTSolver;
+
+/**
+ * Provides unit tests for the TTTSolver perfect-play opponent. This class
+ * validates the solved value of the game, that the solver takes wins and
+ * blocks losses, and that it never loses against any sequence of replies.
+ */
+public class TTTSolverTests {
+
+  private MNKBoard board(int... cells) {
+    MNKBoard board = new MNKBoard(3, 3, 3);
+    for (int cell : cells) {
+      assertTrue(board.place(cell / 3, cell % 3));
+    }
+    return board;
+  }
+
+  @Test
+  public void testEmptyBoardIsDraw() {
+    assertEquals(0, TTTSolver.score(board()));
+  }
+
+  @Test
+  public void testTakesWinAndBlocks() {
+    // X on 0 and 1, O on 3 and 4: X to move wins at 2
+    assertEquals(2, TTTSolver.bestMove(board(0, 3, 1, 4)));
+    // X on 0 and 1, O on 4: O to move must block at 2
+    assertEquals(2, TTTSolver.bestMove(board(0, 4, 1)));
+  }
+
+  @Test
+  public void testNeverLosesAgainstAnyReplies() {
+    assertEquals(0, worstOutcome(new MNKBoard(3, 3, 3), 1));
+    assertEquals(0, worstOutcome(new MNKBoard(3, 3, 3), 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsLargerBoards() {
+    TTTSolver.bestMove(new MNKBoard(4, 4, 3));
+  }
+
+  /**
+   * Plays the solver as one side against every possible sequence of
+   * opponent moves.
+   * @param board the position to continue from
+   * @param solverPlayer the player the solver controls
+   * @return -1 if the solver can lose, 0 if its worst result is a draw, 1 otherwise
+   */
+  private int worstOutcome(MNKBoard board, int solverPlayer) {
+    if (board.lastMoveWon()) {
+      return board.winner() == solverPlayer ? 1 : -1;
+    }
+    if (board.isFull()) {
+      return 0;
+    }
+    if (board.current() == solverPlayer) {
+      int move = TTTSolver.bestMove(board);
+      board.place(move / 3, move % 3);
+      int result = worstOutcome(board, solverPlayer);
+      board.undo();
+      return result;
+    }
+    int worst = 1;
+    for (int cell = 0; cell < 9; cell++) {
+      if (board.place(cell / 3, cell % 3)) {
+        worst = Math.min(worst, worstOutcome(board, solverPlayer));
+        board.undo();
+      }
+    }
+    return worst;
+  }
+}